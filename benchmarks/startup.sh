@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# Startup benchmark: compares the default image against the fast-startup image
+# (Spring AOT + AppCDS, optionally with lazy initialization).
+#
+# Reports, per variant, the time from `docker run` until /ws accepts connections
+# (the SockJS info endpoint answers 200) and the resident set size of the JVM at that point.
+#
+# Usage: benchmarks/startup.sh [runs]   (default: 5 runs per variant)
+# A run fails if the container exits or is not ready within STARTUP_TIMEOUT seconds (default 120).
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+cd "$(dirname "$0")/.."
+
+build() {
+    local tag="$1"; shift
+    echo "Building $tag ..."
+    docker build -q -t "$tag" "$@" . > /dev/null
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+measure() {
+    local label="$1"; local image="$2"; shift 2
+    local total_ms=0; local total_rss=0
+
+    for run in $(seq 1 "$RUNS"); do
+        local start; start=$(now_ms)
+        local container; container=$(docker run -d -p "$PORT:8080" "$@" "$image")
+
+        local deadline=$(( start + STARTUP_TIMEOUT * 1000 ))
+        until curl -sf -o /dev/null "http://localhost:$PORT/ws/info"; do
+            local reason=""
+            if [ "$(docker inspect -f '{{.State.Running}}' "$container" 2>/dev/null)" != "true" ]; then
+                reason="container exited"
+            elif [ "$(now_ms)" -ge "$deadline" ]; then
+                reason="not ready after ${STARTUP_TIMEOUT}s"
+            fi
+            if [ -n "$reason" ]; then
+                echo "$label run $run failed: $reason. Container logs:" >&2
+                docker logs "$container" >&2 || true
+                docker rm -f "$container" > /dev/null 2>&1 || true
+                exit 1
+            fi
+            sleep 0.05
+        done
+        local ready_ms=$(( $(now_ms) - start ))
+        local rss_kb; rss_kb=$(docker exec "$container" sh -c "grep VmRSS /proc/1/status" | awk '{print $2}')
+
+        docker rm -f "$container" > /dev/null
+        printf "%-22s run %d: ready in %5d ms, RSS %6d MB\n" "$label" "$run" "$ready_ms" $(( rss_kb / 1024 ))
+        total_ms=$(( total_ms + ready_ms )); total_rss=$(( total_rss + rss_kb ))
+    done
+
+    printf "%-22s average: ready in %5d ms, RSS %6d MB\n\n" "$label" $(( total_ms / RUNS )) $(( total_rss / RUNS / 1024 ))
+}
+
+build 1to99:default
+build 1to99:fast-startup --build-arg FAST_STARTUP=true
+
+measure "default" 1to99:default
+measure "fast-startup" 1to99:fast-startup
+
+# Lazy initialization is a runtime switch, so the fast-startup image is reused
+measure "fast-startup + lazy" 1to99:fast-startup -e SPRING_MAIN_LAZY_INITIALIZATION=true
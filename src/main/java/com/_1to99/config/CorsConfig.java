@@ -15,6 +15,7 @@ public class CorsConfig {
                 registry.addMapping("/**")
                         .allowedOriginPatterns("*")
                         .allowedMethods("*")
+                        .exposedHeaders("ETag")
                         .allowCredentials(true);
             }
         };
@@ -0,0 +1,143 @@
+package com._1to99.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Decides what permessage-deflate offer Tomcat sees on each WebSocket upgrade.
+ * Tomcat negotiates the extension straight from the request header, so the offer is rewritten here:
+ * dropped when compression is off or the compressed session cap is reached, otherwise extended with
+ * the configured no_context_takeover parameters.
+ */
+public class WebSocketCompressionFilter extends OncePerRequestFilter {
+
+    private static final String EXTENSIONS_HEADER = "Sec-WebSocket-Extensions";
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean enabled;
+    private final boolean serverContextTakeover;
+    private final boolean clientContextTakeover;
+    private final int maxSessions;
+
+    private final AtomicInteger compressedSessions = new AtomicInteger();
+
+    public WebSocketCompressionFilter(boolean enabled, boolean serverContextTakeover,
+            boolean clientContextTakeover, int maxSessions) {
+        this.enabled = enabled;
+        this.serverContextTakeover = serverContextTakeover;
+        this.clientContextTakeover = clientContextTakeover;
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(EXTENSIONS_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // The cap is soft: sessions are counted once open, so a burst of handshakes can overshoot it slightly
+        boolean allowed = enabled && (maxSessions <= 0 || compressedSessions.get() < maxSessions);
+
+        List<String> offers = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders(EXTENSIONS_HEADER))) {
+            for (String offer : header.split(",")) {
+                String rewritten = rewriteOffer(offer.trim(), allowed);
+                if (rewritten != null) {
+                    offers.add(rewritten);
+                }
+            }
+        }
+
+        chain.doFilter(new HttpServletRequestWrapper(request) {
+            @Override
+            public String getHeader(String name) {
+                if (EXTENSIONS_HEADER.equalsIgnoreCase(name)) {
+                    return offers.isEmpty() ? null : String.join(", ", offers);
+                }
+                return super.getHeader(name);
+            }
+
+            @Override
+            public Enumeration<String> getHeaders(String name) {
+                if (EXTENSIONS_HEADER.equalsIgnoreCase(name)) {
+                    return Collections.enumeration(offers.isEmpty() ? List.of() : List.of(String.join(", ", offers)));
+                }
+                return super.getHeaders(name);
+            }
+        }, response);
+    }
+
+    private String rewriteOffer(String offer, boolean allowed) {
+        String name = offer.split(";", 2)[0].trim();
+        if (!PERMESSAGE_DEFLATE.equalsIgnoreCase(name)) {
+            return offer;
+        }
+        if (!allowed) {
+            return null;
+        }
+
+        // The server may add both parameters to its response even when the client did not offer them (RFC 7692)
+        StringBuilder rewritten = new StringBuilder(offer);
+        if (!serverContextTakeover && !offer.contains("server_no_context_takeover")) {
+            rewritten.append("; server_no_context_takeover");
+        }
+        if (!clientContextTakeover && !offer.contains("client_no_context_takeover")) {
+            rewritten.append("; client_no_context_takeover");
+        }
+        return rewritten.toString();
+    }
+
+    // Counts open sessions that negotiated compression, for the session cap
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                if (isCompressed(session)) {
+                    session.getAttributes().put(PERMESSAGE_DEFLATE, Boolean.TRUE);
+                    compressedSessions.incrementAndGet();
+                }
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                if (session.getAttributes().remove(PERMESSAGE_DEFLATE) != null) {
+                    compressedSessions.decrementAndGet();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private static boolean isCompressed(WebSocketSession session) {
+        for (WebSocketExtension extension : session.getExtensions()) {
+            if (PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getCompressedSessions() {
+        return compressedSessions.get();
+    }
+}
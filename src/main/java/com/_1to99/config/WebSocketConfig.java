@@ -1,21 +1,76 @@
 package com._1to99.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.DefaultContentTypeResolver;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com._1to99.tracing.BrokerTracingInterceptor;
+import com._1to99.tracing.InboundTracingInterceptor;
+import com._1to99.tracing.Tracer;
+import com._1to99.tracing.TracingMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${game.websocket.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    @Value("${game.websocket.compression.server-context-takeover:true}")
+    private boolean serverContextTakeover;
+
+    @Value("${game.websocket.compression.client-context-takeover:true}")
+    private boolean clientContextTakeover;
+
+    @Value("${game.websocket.compression.max-sessions:0}")
+    private int maxCompressedSessions;
+
+    @Bean
+    public WebSocketCompressionFilter webSocketCompressionFilter() {
+        return new WebSocketCompressionFilter(compressionEnabled, serverContextTakeover,
+                clientContextTakeover, maxCompressedSessions);
+    }
+
+    @Bean
+    public FilterRegistrationBean<WebSocketCompressionFilter> webSocketCompressionFilterRegistration(
+            WebSocketCompressionFilter filter) {
+        // Covers the native endpoint and the SockJS websocket transport under /ws
+        FilterRegistrationBean<WebSocketCompressionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/ws/*");
+        return registration;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Enable simple broker for topics and queues
         config.enableSimpleBroker("/topic", "/queue");
         // Set application destination prefix
         config.setApplicationDestinationPrefixes("/app");
+
+        if (tracer.isEnabled()) {
+            config.configureBrokerChannel().interceptors(new BrokerTracingInterceptor(tracer));
+        }
     }
 
     @Override
@@ -29,4 +84,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*");
     }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(webSocketCompressionFilter()::decorate);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (tracer.isEnabled()) {
+            registration.interceptors(new InboundTracingInterceptor(tracer));
+        }
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        if (tracer.isEnabled()) {
+            // Same JSON setup as Spring Boot's converter, placed first so outgoing conversion can be timed
+            DefaultContentTypeResolver resolver = new DefaultContentTypeResolver();
+            resolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
+            MappingJackson2MessageConverter jsonConverter = new MappingJackson2MessageConverter();
+            jsonConverter.setObjectMapper(objectMapper);
+            jsonConverter.setContentTypeResolver(resolver);
+
+            messageConverters.add(0, new TracingMessageConverter(jsonConverter, tracer));
+        }
+        return true;
+    }
 }
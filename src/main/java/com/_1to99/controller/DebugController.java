@@ -0,0 +1,64 @@
+package com._1to99.controller;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com._1to99.config.WebSocketCompressionFilter;
+import com._1to99.messaging.RoomBroadcaster;
+import com._1to99.tracing.Trace;
+import com._1to99.tracing.Tracer;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// Diagnostics, only answered for requests from the same host
+@RestController
+@RequestMapping("/debug")
+public class DebugController {
+
+    @Autowired
+    private RoomBroadcaster roomBroadcaster;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private WebSocketCompressionFilter webSocketCompressionFilter;
+
+    @GetMapping("/broadcast")
+    public Map<String, Object> broadcastStats(HttpServletRequest request) {
+        requireLocal(request);
+        return roomBroadcaster.getStats();
+    }
+
+    @GetMapping("/traces")
+    public List<Trace> slowestTraces(HttpServletRequest request) {
+        requireLocal(request);
+        return tracer.getSlowestTraces();
+    }
+
+    @GetMapping("/compression")
+    public Map<String, Object> compressionStats(HttpServletRequest request) {
+        requireLocal(request);
+        return Map.of("compressedSessions", webSocketCompressionFilter.getCompressedSessions());
+    }
+
+    private void requireLocal(HttpServletRequest request) {
+        try {
+            if (InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress()) {
+                return;
+            }
+        } catch (UnknownHostException e) {
+            // Fall through and reject
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Debug endpoints are only available locally");
+    }
+}
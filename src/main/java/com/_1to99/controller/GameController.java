@@ -17,10 +17,13 @@ import com._1to99.dto.GuessMessage;
 import com._1to99.dto.JoinRoomMessage;
 import com._1to99.dto.QuitGameMessage;
 import com._1to99.exception.GameException;
+import com._1to99.messaging.RoomBroadcaster;
 import com._1to99.model.GameRoom;
+import com._1to99.model.GameState;
 import com._1to99.model.GameTurn;
 import com._1to99.model.Player;
 import com._1to99.service.GameService;
+import com._1to99.service.TournamentService;
 
 @Controller
 public class GameController {
@@ -31,6 +34,12 @@ public class GameController {
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
+    @Autowired
+    private RoomBroadcaster roomBroadcaster;
+
+    @Autowired
+    private TournamentService tournamentService;
+
     @MessageMapping("/createRoom")
     public void createRoom(@Payload CreateRoomMessage message, SimpMessageHeaderAccessor headerAccessor) {
         System.out.println("DEBUG: ===== CREATE ROOM METHOD CALLED =====");
@@ -60,7 +69,7 @@ public class GameController {
 
             // Also send to room topic for future messages
             System.out.println("DEBUG: Also sending to room topic: /topic/room." + room.getRoomId());
-            messagingTemplate.convertAndSend("/topic/room." + room.getRoomId(), update);
+            roomBroadcaster.broadcast(room.getRoomId(), update);
             System.out.println("DEBUG: Response sent to room topic successfully");
 
         } catch (Exception e) {
@@ -98,7 +107,7 @@ public class GameController {
             update.setMessage(message.getPlayerName() + " joined the game");
             
             System.out.println("DEBUG: Broadcasting PLAYER_JOINED to room topic: /topic/room." + room.getRoomId());
-            messagingTemplate.convertAndSend("/topic/room." + room.getRoomId(), update);
+            roomBroadcaster.broadcast(room.getRoomId(), update);
             System.out.println("DEBUG: PLAYER_JOINED broadcast sent successfully");
 
         } catch (Exception e) {
@@ -117,6 +126,32 @@ public class GameController {
         }
     }
 
+    @MessageMapping("/claimSeat")
+    public void claimSeat(@Payload Map<String, String> message, SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String roomId = message.get("roomId");
+
+            // Seats are preassigned by bulk provisioning and claimed with the one-time token it issued
+            String playerId = tournamentService.claimSeat(roomId, message.get("claimToken"));
+            GameRoom room = gameService.getRoom(roomId);
+
+            headerAccessor.getSessionAttributes().put("playerId", playerId);
+
+            GameUpdateMessage update = new GameUpdateMessage();
+            update.setType("SEAT_CLAIMED");
+            update.setGameRoom(room);
+            update.setMessage("Seat claimed");
+
+            messagingTemplate.convertAndSend("/topic/user." + playerId, update);
+
+        } catch (Exception e) {
+            String sessionId = headerAccessor.getSessionId();
+            if (sessionId != null) {
+                sendError(sessionId, e.getMessage());
+            }
+        }
+    }
+
     @MessageMapping("/startGameCountdown")
     public void startGameCountdown(@Payload Map<String, String> message, SimpMessageHeaderAccessor headerAccessor) {
         System.out.println("DEBUG: ===== START GAME COUNTDOWN CALLED =====");
@@ -136,7 +171,7 @@ public class GameController {
             update.setMessage("Game starting in 5 seconds...");
 
             System.out.println("DEBUG: Broadcasting countdown to room: " + roomId);
-            messagingTemplate.convertAndSend("/topic/room." + roomId, update);
+            roomBroadcaster.broadcast(roomId, update);
 
             // Schedule the actual game start after 5 seconds
             Timer timer = new Timer();
@@ -151,7 +186,7 @@ public class GameController {
                         startUpdate.setGameRoom(startedRoom);
                         startUpdate.setMessage("Game started! Current range: 1-99");
 
-                        messagingTemplate.convertAndSend("/topic/room." + roomId, startUpdate);
+                        roomBroadcaster.broadcast(roomId, startUpdate);
                         System.out.println("DEBUG: Game started successfully after countdown");
                     } catch (Exception e) {
                         System.err.println("Error starting game after countdown: " + e.getMessage());
@@ -183,7 +218,7 @@ public class GameController {
             update.setGameRoom(room);
             update.setMessage("Game started! Current range: 1-99");
             
-            messagingTemplate.convertAndSend("/topic/room." + roomId, update);
+            roomBroadcaster.broadcast(roomId, update);
 
         } catch (Exception e) {
             String sessionId = headerAccessor.getSessionId();
@@ -207,7 +242,11 @@ public class GameController {
             update.setLastTurn(turn);
             update.setMessage(turn.getPlayerName() + " guessed " + turn.getGuess());
             
-            messagingTemplate.convertAndSend("/topic/room." + message.getRoomId(), update);
+            roomBroadcaster.broadcast(message.getRoomId(), update);
+
+            if (room.getState() == GameState.FINISHED) {
+                tournamentService.roomFinished(room, turn);
+            }
 
         } catch (Exception e) {
             String sessionId = headerAccessor.getSessionId();
@@ -240,7 +279,7 @@ public class GameController {
             update.setMessage(message.getPlayerName() + " left the game");
 
             System.out.println("DEBUG: Broadcasting PLAYER_QUIT to room topic: /topic/room." + room.getRoomId());
-            messagingTemplate.convertAndSend("/topic/room." + room.getRoomId(), update);
+            roomBroadcaster.broadcast(room.getRoomId(), update);
 
         } catch (Exception e) {
             System.out.println("DEBUG: Exception in quitGame: " + e.getMessage());
@@ -265,7 +304,7 @@ public class GameController {
             update.setGameRoom(room);
             update.setMessage("Game has been restarted. Waiting for players to join!");
 
-            messagingTemplate.convertAndSend("/topic/room." + roomId, update);
+            roomBroadcaster.broadcast(roomId, update);
 
         } catch (Exception e) {
             String sessionId = headerAccessor.getSessionId();
@@ -311,7 +350,7 @@ public class GameController {
             update.setGameRoom(room);
             update.setMessage(playerName + " was removed from the game by the host");
 
-            messagingTemplate.convertAndSend("/topic/room." + roomId, update);
+            roomBroadcaster.broadcast(roomId, update);
 
         } catch (Exception e) {
             String sessionId = headerAccessor.getSessionId();
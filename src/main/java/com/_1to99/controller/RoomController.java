@@ -0,0 +1,113 @@
+package com._1to99.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com._1to99.messaging.RoomChangeNotifier;
+import com._1to99.model.GameRoom;
+import com._1to99.service.GameService;
+
+/**
+ * Room snapshots over plain HTTP for clients that cannot keep a WebSocket open.
+ * The room version is the ETag, so unchanged rooms cost a 304 with no body.
+ * Adding waitMs turns the request into a long poll that is parked without a thread until the room changes.
+ */
+@RestController
+@RequestMapping("/api/rooms")
+public class RoomController {
+
+    // Stay below the 60s proxy_read_timeout in nginx.conf
+    private static final long MAX_WAIT_MS = 30000;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private RoomChangeNotifier roomChangeNotifier;
+
+    @GetMapping("/{roomId}")
+    public ResponseEntity<GameRoom> getRoom(@PathVariable String roomId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return snapshot(roomId, ifNoneMatch);
+    }
+
+    @GetMapping(value = "/{roomId}", params = "waitMs")
+    public DeferredResult<ResponseEntity<GameRoom>> pollRoom(@PathVariable String roomId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam long waitMs) {
+        DeferredResult<ResponseEntity<GameRoom>> result = new DeferredResult<>(Math.min(waitMs, MAX_WAIT_MS));
+
+        GameRoom room = gameService.getRoom(roomId);
+        if (waitMs <= 0 || room == null || !etagMatches(ifNoneMatch, room)) {
+            result.setResult(snapshot(roomId, ifNoneMatch));
+            return result;
+        }
+
+        Runnable onChange = () -> result.setResult(snapshot(roomId, ifNoneMatch));
+        result.onTimeout(onChange);
+        result.onCompletion(() -> roomChangeNotifier.unregister(roomId, onChange));
+        roomChangeNotifier.register(roomId, onChange);
+
+        // The room may have changed between the check above and registering
+        GameRoom current = gameService.getRoom(roomId);
+        if (current == null || !etagMatches(ifNoneMatch, current)) {
+            onChange.run();
+        }
+        return result;
+    }
+
+    private ResponseEntity<GameRoom> snapshot(String roomId, String ifNoneMatch) {
+        GameRoom live = gameService.getRoom(roomId);
+        if (live == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // The ETag and the body both come from one copy, so they always describe the same version
+        GameRoom room = live.snapshot();
+
+        if (etagMatches(ifNoneMatch, room)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag(room)).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag(room))
+                .cacheControl(CacheControl.noCache())
+                .body(room);
+    }
+
+    // Weak, because Tomcat does not gzip responses that carry a strong ETag
+    private static String etag(GameRoom room) {
+        return "W/" + opaqueTag(room);
+    }
+
+    private static String opaqueTag(GameRoom room) {
+        return "\"" + room.getVersion() + "\"";
+    }
+
+    // Weak comparison, as If-None-Match requires
+    private static boolean etagMatches(String ifNoneMatch, GameRoom room) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String etag = opaqueTag(room);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package com._1to99.controller;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com._1to99.dto.BulkCreateRoomsMessage;
+import com._1to99.dto.BulkCreateRoomsResponse;
+import com._1to99.exception.GameException;
+import com._1to99.model.Tournament;
+import com._1to99.service.TournamentService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/tournaments")
+public class TournamentController {
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    // Shared secret for organizers; when unset, tournaments can only be created from the server itself
+    @Value("${game.tournaments.organizer-token:}")
+    private String organizerToken;
+
+    // Provisions all rooms in one call; players claim their seats with /app/claimSeat and their seat's claim token
+    @PostMapping
+    public BulkCreateRoomsResponse createTournament(@RequestBody BulkCreateRoomsMessage message,
+            @RequestHeader(value = "X-Organizer-Token", required = false) String token, HttpServletRequest request) {
+        requireOrganizer(token, request);
+        try {
+            return tournamentService.createTournament(message);
+        } catch (GameException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Losers per room so far; complete is true once every room has finished or been abandoned
+    @GetMapping("/{tournamentId}")
+    public Tournament getTournament(@PathVariable String tournamentId) {
+        Tournament tournament = tournamentService.getTournament(tournamentId);
+        if (tournament == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Tournament not found");
+        }
+        return tournament;
+    }
+
+    private void requireOrganizer(String token, HttpServletRequest request) {
+        if (!organizerToken.isEmpty()) {
+            if (token != null && MessageDigest.isEqual(organizerToken.getBytes(StandardCharsets.UTF_8),
+                    token.getBytes(StandardCharsets.UTF_8))) {
+                return;
+            }
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Organizer token required");
+        }
+
+        try {
+            if (InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress()) {
+                return;
+            }
+        } catch (UnknownHostException e) {
+            // Fall through and reject
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Set game.tournaments.organizer-token to create tournaments remotely");
+    }
+}
@@ -0,0 +1,14 @@
+package com._1to99.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkCreateRoomsMessage {
+    private List<RoomSeating> rooms;
+    private boolean autoStart; // Start every room's countdown right after provisioning
+    private Long staggerMs;    // Delay between consecutive room starts, the server default when omitted
+}
@@ -0,0 +1,20 @@
+package com._1to99.dto;
+
+import java.util.List;
+
+import com._1to99.model.GameRoom;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkCreateRoomsResponse {
+    private String tournamentId;
+    private List<GameRoom> rooms;
+    private List<SeatClaim> seats; // One claim token per seat, never part of a room snapshot
+}
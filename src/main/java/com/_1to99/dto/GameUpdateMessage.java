@@ -1,5 +1,7 @@
 package com._1to99.dto;
 
+import java.util.List;
+
 import com._1to99.model.GameRoom;
 import com._1to99.model.GameTurn;
 
@@ -14,4 +16,5 @@ public class GameUpdateMessage {
     private String message;
     private GameTurn lastTurn;
     private Boolean allPlayAgain; // For ALL_PLAYERS_DECIDED messages
+    private List<GameUpdateMessage> updates; // For BATCH messages
 }
@@ -0,0 +1,13 @@
+package com._1to99.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RoomSeating {
+    private String hostName;
+    private List<String> playerNames; // Seats besides the host, in join order
+}
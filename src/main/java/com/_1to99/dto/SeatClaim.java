@@ -0,0 +1,17 @@
+package com._1to99.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Handed to the organizer for one provisioned seat; the token is redeemed once with /app/claimSeat
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatClaim {
+    private String roomId;
+    private String playerName;
+    private String claimToken;
+}
@@ -0,0 +1,219 @@
+package com._1to99.messaging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com._1to99.dto.GameUpdateMessage;
+import com._1to99.model.GameRoom;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Sends room updates to /topic/room.{roomId}.
+ * With a batch window configured, updates for the same room are held for at most that window
+ * and flushed together in order: runs of membership changes collapse to the latest snapshot,
+ * and in BATCH mode whatever is left goes out as a single frame.
+ * Each update is sent with a copy of its room taken when it is broadcast, so a held update
+ * still describes the room as it was, and serialization never races with room mutations.
+ */
+@Component
+public class RoomBroadcaster {
+
+    public enum BatchMode {
+        COLLAPSE, // Collapse membership changes, send the rest one by one
+        BATCH     // Collapse membership changes, send the rest as one BATCH frame
+    }
+
+    // Each of these carries the full room snapshot, so only the latest one in a run matters
+    private static final Set<String> COLLAPSIBLE_TYPES = Set.of("PLAYER_JOINED", "PLAYER_QUIT", "PLAYER_REMOVED");
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private RoomChangeNotifier roomChangeNotifier;
+
+    @Value("${game.broadcast.batch-window-ms:0}")
+    private long batchWindowMs;
+
+    @Value("${game.broadcast.mode:COLLAPSE}")
+    private BatchMode batchMode;
+
+    private final Map<String, List<QueuedUpdate>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    private final LongAdder updatesReceived = new LongAdder();
+    private final LongAdder updatesFlushed = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder totalDelayMicros = new LongAdder();
+    private final AtomicLong maxDelayMicros = new AtomicLong();
+
+    private record QueuedUpdate(GameUpdateMessage update, long queuedAtNanos) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (batchWindowMs > 0) {
+            // A single thread keeps flushes for the same room in order
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "room-broadcast-batcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            pending.keySet().forEach(this::flush);
+        }
+    }
+
+    public void broadcast(String roomId, GameUpdateMessage update) {
+        updatesReceived.increment();
+        GameRoom room = update.getGameRoom();
+        if (room != null) {
+            // Copy and hand off under the room lock, so a later version can never overtake an earlier one
+            synchronized (room) {
+                dispatch(roomId, snapshot(update));
+            }
+        } else {
+            dispatch(roomId, snapshot(update));
+        }
+        // HTTP pollers read the room directly, so they are woken right away even when sends are batched
+        roomChangeNotifier.roomChanged(roomId);
+    }
+
+    private void dispatch(String roomId, GameUpdateMessage held) {
+        if (scheduler == null) {
+            send(roomId, held);
+            return;
+        }
+
+        boolean[] firstInWindow = new boolean[1];
+        pending.compute(roomId, (id, queue) -> {
+            if (queue == null) {
+                queue = new ArrayList<>();
+                firstInWindow[0] = true;
+            }
+            queue.add(new QueuedUpdate(held, System.nanoTime()));
+            return queue;
+        });
+
+        if (firstInWindow[0]) {
+            scheduler.schedule(() -> flush(roomId), batchWindowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Flushes every held update now, on the batcher thread so it cannot interleave with a scheduled flush
+    void flushAll() throws InterruptedException, ExecutionException {
+        if (scheduler != null) {
+            scheduler.submit(() -> pending.keySet().forEach(this::flush)).get();
+        }
+    }
+
+    private void flush(String roomId) {
+        List<QueuedUpdate> queue = pending.remove(roomId);
+        if (queue == null) {
+            return;
+        }
+
+        updatesFlushed.add(queue.size());
+        long now = System.nanoTime();
+        for (QueuedUpdate queued : queue) {
+            long delayMicros = (now - queued.queuedAtNanos()) / 1000;
+            totalDelayMicros.add(delayMicros);
+            maxDelayMicros.accumulateAndGet(delayMicros, Math::max);
+        }
+
+        List<GameUpdateMessage> updates = collapse(queue.stream().map(QueuedUpdate::update).toList());
+        try {
+            if (batchMode == BatchMode.BATCH && updates.size() > 1) {
+                GameUpdateMessage batch = new GameUpdateMessage();
+                batch.setType("BATCH");
+                batch.setGameRoom(updates.get(updates.size() - 1).getGameRoom());
+                // Only the final snapshot is sent; the updates are our own copies, so they can be trimmed
+                updates.forEach(update -> update.setGameRoom(null));
+                batch.setUpdates(updates);
+                send(roomId, batch);
+            } else {
+                updates.forEach(update -> send(roomId, update));
+            }
+        } catch (Exception e) {
+            System.err.println("Error flushing broadcasts for room " + roomId + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    static List<GameUpdateMessage> collapse(List<GameUpdateMessage> queue) {
+        List<GameUpdateMessage> updates = new ArrayList<>(queue.size());
+        for (GameUpdateMessage update : queue) {
+            GameUpdateMessage previous = updates.isEmpty() ? null : updates.get(updates.size() - 1);
+
+            if (previous != null && COLLAPSIBLE_TYPES.contains(previous.getType())
+                    && COLLAPSIBLE_TYPES.contains(update.getType())) {
+                GameUpdateMessage merged = new GameUpdateMessage();
+                merged.setType(update.getType());
+                merged.setGameRoom(update.getGameRoom());
+                merged.setMessage(previous.getMessage() + "; " + update.getMessage());
+                updates.set(updates.size() - 1, merged);
+            } else {
+                updates.add(update);
+            }
+        }
+        return updates;
+    }
+
+    // Copies the update along with a snapshot of its room
+    private static GameUpdateMessage snapshot(GameUpdateMessage update) {
+        GameUpdateMessage snapshot = new GameUpdateMessage();
+        snapshot.setType(update.getType());
+        snapshot.setMessage(update.getMessage());
+        snapshot.setLastTurn(update.getLastTurn());
+        snapshot.setAllPlayAgain(update.getAllPlayAgain());
+        snapshot.setUpdates(update.getUpdates());
+
+        GameRoom room = update.getGameRoom();
+        if (room != null) {
+            snapshot.setGameRoom(room.snapshot());
+        }
+        return snapshot;
+    }
+
+    private void send(String roomId, GameUpdateMessage update) {
+        framesSent.increment();
+        messagingTemplate.convertAndSend("/topic/room." + roomId, update);
+    }
+
+    public Map<String, Object> getStats() {
+        long flushed = updatesFlushed.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("batchWindowMs", batchWindowMs);
+        stats.put("batchMode", batchMode);
+        stats.put("updatesReceived", updatesReceived.sum());
+        stats.put("framesSent", framesSent.sum());
+        stats.put("pendingRooms", pending.size());
+        stats.put("avgAddedLatencyMicros", flushed > 0 ? totalDelayMicros.sum() / flushed : 0);
+        stats.put("maxAddedLatencyMicros", maxDelayMicros.get());
+        return stats;
+    }
+}
@@ -0,0 +1,44 @@
+package com._1to99.messaging;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com._1to99.service.RoomRemovedEvent;
+
+/**
+ * Wakes up parked long-poll requests when a room changes.
+ * RoomBroadcaster calls roomChanged for every room update, so listeners fire once per broadcast.
+ * Deleted rooms are never broadcast, so their pollers are woken from the removal event instead.
+ */
+@Component
+public class RoomChangeNotifier {
+
+    private final Map<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    public void register(String roomId, Runnable listener) {
+        listeners.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(listener);
+    }
+
+    public void unregister(String roomId, Runnable listener) {
+        listeners.computeIfPresent(roomId, (id, waiting) -> {
+            waiting.remove(listener);
+            return waiting.isEmpty() ? null : waiting;
+        });
+    }
+
+    @EventListener
+    public void roomRemoved(RoomRemovedEvent event) {
+        roomChanged(event.roomId());
+    }
+
+    public void roomChanged(String roomId) {
+        Set<Runnable> waiting = listeners.remove(roomId);
+        if (waiting != null) {
+            waiting.forEach(Runnable::run);
+        }
+    }
+}
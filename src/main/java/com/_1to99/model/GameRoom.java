@@ -21,5 +21,24 @@ public class GameRoom {
     private int minRange;
     private int maxRange;
     private List<GameTurn> gameHistory;
-    
+    private long version; // Changes on every update, used as the ETag for room snapshots
+
+    // Deep copy taken under the room lock, so it can be serialized while the room keeps changing
+    public GameRoom snapshot() {
+        synchronized (this) {
+            return new GameRoom(roomId, hostId,
+                    players != null ? players.stream().map(GameRoom::copy).toList() : null,
+                    state, secretNumber, currentPlayerIndex, minRange, maxRange,
+                    gameHistory != null ? gameHistory.stream().map(GameRoom::copy).toList() : null,
+                    version);
+        }
+    }
+
+    private static Player copy(Player player) {
+        return new Player(player.getId(), player.getName(), player.isHost(), player.getPostGameDecision());
+    }
+
+    private static GameTurn copy(GameTurn turn) {
+        return new GameTurn(turn.getPlayerId(), turn.getPlayerName(), turn.getGuess(), turn.getResult(), turn.getTimestamp());
+    }
 }
@@ -0,0 +1,26 @@
+package com._1to99.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class Tournament {
+    private String tournamentId;
+    private List<String> roomIds;
+    private Map<String, String> losers; // roomId -> name of the player who guessed the secret number
+    private Set<String> abandonedRoomIds; // Rooms deleted before their first game finished
+    private long createdAt;
+
+    public boolean isComplete() {
+        return losers.size() + abandonedRoomIds.size() == roomIds.size();
+    }
+}
@@ -1,25 +1,30 @@
 package com._1to99.service;
 
+import java.util.List;
+
+import com._1to99.dto.RoomSeating;
 import com._1to99.exception.GameException;
 import com._1to99.model.GameRoom;
 import com._1to99.model.GameTurn;
 
 public interface GameService {
 
-    GameRoom createRoom(String playerName);
+    GameRoom createRoom(String playerName) throws GameException;
+
+    List<GameRoom> createRooms(List<RoomSeating> seatings) throws GameException;
 
-    GameRoom joinRoom(String roomId, String playerName) throws GameException;
+    GameRoom joinRoom(@RoomId String roomId, String playerName) throws GameException;
 
-    GameRoom startGame(String roomId, String playerId) throws GameException;
+    GameRoom startGame(@RoomId String roomId, String playerId) throws GameException;
 
-    GameTurn makeGuess(String roomId, String playerId, int guess) throws GameException;
+    GameTurn makeGuess(@RoomId String roomId, String playerId, int guess) throws GameException;
 
-    GameRoom getRoom(String roomId);
+    GameRoom getRoom(@RoomId String roomId);
 
-    GameRoom playerQuitGame(String roomId, String playerName) throws GameException;
+    GameRoom playerQuitGame(@RoomId String roomId, String playerName) throws GameException;
 
-    GameRoom restartGame(String roomId, String hostId) throws GameException;
+    GameRoom restartGame(@RoomId String roomId, String hostId) throws GameException;
 
-    GameRoom removePlayer(String roomId, String hostId, String playerName) throws GameException;
+    GameRoom removePlayer(@RoomId String roomId, String hostId, String playerName) throws GameException;
 
 }
@@ -0,0 +1,12 @@
+package com._1to99.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks the GameService parameter that holds the room ID, for infrastructure such as tracing that tags calls by room
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RoomId {
+}
@@ -0,0 +1,5 @@
+package com._1to99.service;
+
+// Published when a room is deleted for good: its last player left or it expired in the dormant tier
+public record RoomRemovedEvent(String roomId) {
+}
@@ -0,0 +1,21 @@
+package com._1to99.service;
+
+import com._1to99.dto.BulkCreateRoomsMessage;
+import com._1to99.dto.BulkCreateRoomsResponse;
+import com._1to99.exception.GameException;
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameTurn;
+import com._1to99.model.Tournament;
+
+public interface TournamentService {
+
+    BulkCreateRoomsResponse createTournament(BulkCreateRoomsMessage message) throws GameException;
+
+    Tournament getTournament(String tournamentId);
+
+    // Redeems a one-time claim token for a seat in a tournament room and returns that seat's player ID
+    String claimSeat(String roomId, String claimToken) throws GameException;
+
+    void roomFinished(GameRoom room, GameTurn losingTurn);
+
+}
@@ -0,0 +1,178 @@
+package com._1to99.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameState;
+import com._1to99.model.GameTurn;
+import com._1to99.model.Player;
+
+/**
+ * Off-heap tier for rooms that have been idle for a while.
+ * Each room is encoded into a compact binary form and kept in a direct buffer,
+ * so only the room ID and the buffer handle stay on the heap.
+ */
+class DormantRoomStore {
+
+    private record DormantRoom(ByteBuffer buffer, long dormantSince) {
+    }
+
+    private final Map<String, DormantRoom> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong offHeapBytes = new AtomicLong();
+
+    void put(GameRoom room) {
+        byte[] encoded = encode(room);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length);
+        buffer.put(encoded).flip();
+
+        DormantRoom previous = rooms.put(room.getRoomId(), new DormantRoom(buffer, System.currentTimeMillis()));
+        offHeapBytes.addAndGet(encoded.length - (previous != null ? previous.buffer().capacity() : 0));
+    }
+
+    /**
+     * Removes the room from the store and returns it as a fresh object graph,
+     * or null if the room is not dormant.
+     */
+    GameRoom take(String roomId) {
+        DormantRoom dormant = rooms.remove(roomId);
+        if (dormant == null) {
+            return null;
+        }
+        ByteBuffer buffer = dormant.buffer();
+        offHeapBytes.addAndGet(-buffer.capacity());
+
+        byte[] encoded = new byte[buffer.remaining()];
+        buffer.duplicate().get(encoded);
+        return decode(encoded);
+    }
+
+    boolean contains(String roomId) {
+        return rooms.containsKey(roomId);
+    }
+
+    // IDs of the rooms that went dormant at or before the cutoff
+    List<String> dormantBefore(long cutoff) {
+        List<String> roomIds = new ArrayList<>();
+        rooms.forEach((roomId, dormant) -> {
+            if (dormant.dormantSince() <= cutoff) {
+                roomIds.add(roomId);
+            }
+        });
+        return roomIds;
+    }
+
+    boolean isDormantBefore(String roomId, long cutoff) {
+        DormantRoom dormant = rooms.get(roomId);
+        return dormant != null && dormant.dormantSince() <= cutoff;
+    }
+
+    int size() {
+        return rooms.size();
+    }
+
+    long offHeapBytes() {
+        return offHeapBytes.get();
+    }
+
+    private static byte[] encode(GameRoom room) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeUTF(room.getRoomId());
+            out.writeUTF(room.getHostId());
+            out.writeByte(room.getState().ordinal());
+            out.writeInt(room.getSecretNumber());
+            out.writeInt(room.getCurrentPlayerIndex());
+            out.writeInt(room.getMinRange());
+            out.writeInt(room.getMaxRange());
+            out.writeLong(room.getVersion());
+
+            out.writeInt(room.getPlayers().size());
+            for (Player player : room.getPlayers()) {
+                out.writeUTF(player.getId());
+                writeNullableUTF(out, player.getName());
+                out.writeBoolean(player.isHost());
+                writeNullableUTF(out, player.getPostGameDecision());
+            }
+
+            List<GameTurn> history = room.getGameHistory();
+            out.writeBoolean(history != null);
+            if (history != null) {
+                out.writeInt(history.size());
+                for (GameTurn turn : history) {
+                    out.writeUTF(turn.getPlayerId());
+                    writeNullableUTF(out, turn.getPlayerName());
+                    out.writeInt(turn.getGuess());
+                    writeNullableUTF(out, turn.getResult());
+                    out.writeLong(turn.getTimestamp());
+                }
+            }
+
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static GameRoom decode(byte[] encoded) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded));
+
+            GameRoom room = new GameRoom();
+            room.setRoomId(in.readUTF());
+            room.setHostId(in.readUTF());
+            room.setState(GameState.values()[in.readByte()]);
+            room.setSecretNumber(in.readInt());
+            room.setCurrentPlayerIndex(in.readInt());
+            room.setMinRange(in.readInt());
+            room.setMaxRange(in.readInt());
+            room.setVersion(in.readLong());
+
+            int playerCount = in.readInt();
+            List<Player> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                Player player = new Player(in.readUTF(), readNullableUTF(in), in.readBoolean());
+                player.setPostGameDecision(readNullableUTF(in));
+                players.add(player);
+            }
+            room.setPlayers(players);
+
+            if (in.readBoolean()) {
+                int turnCount = in.readInt();
+                List<GameTurn> history = new ArrayList<>(turnCount);
+                for (int i = 0; i < turnCount; i++) {
+                    history.add(new GameTurn(in.readUTF(), readNullableUTF(in), in.readInt(), readNullableUTF(in), in.readLong()));
+                }
+                room.setGameHistory(history);
+            }
+
+            return room;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -1,20 +1,32 @@
 package com._1to99.service.impl;
 
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com._1to99.dto.RoomSeating;
 import com._1to99.exception.GameException;
 import com._1to99.model.GameRoom;
 import com._1to99.model.GameState;
 import com._1to99.model.GameTurn;
 import com._1to99.model.Player;
 import com._1to99.service.GameService;
+import com._1to99.service.RoomRemovedEvent;
 
 @Service
 public class GameServiceImpl implements GameService {
@@ -23,57 +35,154 @@ private final Map<String, GameRoom> gameRooms = new ConcurrentHashMap<>();
     private final Map<String, String> playerRoomMap = new ConcurrentHashMap<>();
     private final Random random = new Random();
 
-    public GameRoom createRoom(String hostName) {
-        String roomId = generateRoomId();
+    // Global so a room recreated under a reused ID never repeats an old version
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // Room IDs are four-digit numbers
+    private static final int ROOM_ID_SPACE = 9000;
+
+    // Rooms idle in WAITING_FOR_PLAYERS or FINISHED are moved off-heap and rehydrated on next access
+    private final DormantRoomStore dormantRooms = new DormantRoomStore();
+    private final Map<String, Long> roomLastActivity = new ConcurrentHashMap<>();
+
+    @Value("${game.rooms.dormant.enabled:true}")
+    private boolean dormantTierEnabled;
+
+    @Value("${game.rooms.dormant.idle-threshold-ms:600000}")
+    private long dormantIdleThresholdMs;
+
+    // Dormant rooms nobody came back to are deleted after this, freeing their room ID
+    @Value("${game.rooms.dormant.ttl-ms:86400000}")
+    private long dormantTtlMs;
+
+    // Caps a single bulk request; callers are organizers (see TournamentController), sized for a 1,000-room tournament
+    @Value("${game.rooms.bulk.max-per-request:1000}")
+    private int maxRoomsPerRequest = 1000;
+
+    // No-op until Spring injects the context, so the service also works when constructed directly
+    @Autowired
+    private ApplicationEventPublisher eventPublisher = event -> { };
+
+    public GameRoom createRoom(String hostName) throws GameException {
         String hostId = UUID.randomUUID().toString();
         
         Player host = new Player(hostId, hostName, true);
         GameRoom room = new GameRoom();
-        room.setRoomId(roomId);
         room.setHostId(hostId);
         room.setPlayers(new ArrayList<>(Arrays.asList(host)));
         room.setState(GameState.WAITING_FOR_PLAYERS);
         
-        gameRooms.put(roomId, room);
-        playerRoomMap.put(hostId, roomId);
+        insertRoom(room);
         
         return room;
     }
 
-    public GameRoom joinRoom(String roomId, String playerName) throws GameException {
-        GameRoom room = gameRooms.get(roomId);
-        if (room == null) {
-            throw new GameException("Room not found");
+    @Override
+    public List<GameRoom> createRooms(List<RoomSeating> seatings) throws GameException {
+        if (seatings == null || seatings.isEmpty()) {
+            throw new GameException("No rooms requested");
         }
-        if (room.getState() != GameState.WAITING_FOR_PLAYERS) {
-            throw new GameException("Game already started");
+        if (seatings.size() > maxRoomsPerRequest) {
+            throw new GameException("At most " + maxRoomsPerRequest + " rooms can be created per request");
         }
-        
-        String playerId = UUID.randomUUID().toString();
-        Player player = new Player(playerId, playerName, false);
-        room.getPlayers().add(player);
-        playerRoomMap.put(playerId, roomId);
-        
-        return room;
+        if (seatings.size() > ROOM_ID_SPACE - gameRooms.size() - dormantRooms.size()) {
+            throw new GameException("Not enough free room IDs for " + seatings.size() + " rooms");
+        }
+
+        // Build every room first so a bad seating list rejects the whole batch before anything is inserted
+        List<GameRoom> rooms = new ArrayList<>(seatings.size());
+        for (RoomSeating seating : seatings) {
+            if (seating.getHostName() == null || seating.getHostName().isBlank()) {
+                throw new GameException("Every room needs a host name");
+            }
+            List<String> playerNames = seating.getPlayerNames() != null ? seating.getPlayerNames() : List.of();
+            Set<String> seatedNames = new HashSet<>();
+            seatedNames.add(seating.getHostName());
+
+            String hostId = UUID.randomUUID().toString();
+            List<Player> players = new ArrayList<>(playerNames.size() + 1);
+            players.add(new Player(hostId, seating.getHostName(), true));
+            for (String playerName : playerNames) {
+                // Players are identified by name when quitting or being removed
+                if (playerName == null || !seatedNames.add(playerName)) {
+                    throw new GameException("Duplicate or missing player name in room of " + seating.getHostName());
+                }
+                players.add(new Player(UUID.randomUUID().toString(), playerName, false));
+            }
+
+            GameRoom room = new GameRoom();
+            room.setHostId(hostId);
+            room.setPlayers(players);
+            room.setState(GameState.WAITING_FOR_PLAYERS);
+            rooms.add(room);
+        }
+
+        for (int i = 0; i < rooms.size(); i++) {
+            try {
+                insertRoom(rooms.get(i));
+            } catch (GameException e) {
+                // Another request took the last free IDs; undo the part of the batch already inserted
+                rooms.subList(0, i).forEach(this::deleteRoom);
+                throw e;
+            }
+        }
+
+        return rooms;
     }
 
-    public GameRoom startGame(String roomId, String hostId) throws GameException {
-        GameRoom room = gameRooms.get(roomId);
-        if (room == null || !room.getHostId().equals(hostId)) {
-            throw new GameException("Unauthorized or room not found");
+    /**
+     * Assigns a free room ID, inserts the room and maps its players to it.
+     * Holds the room lock so nobody sees the room before its players are mapped.
+     */
+    private void insertRoom(GameRoom room) throws GameException {
+        synchronized (room) {
+            String roomId = claimRoomId(room);
+            roomLastActivity.put(roomId, System.currentTimeMillis());
+
+            for (Player player : room.getPlayers()) {
+                playerRoomMap.put(player.getId(), roomId);
+            }
         }
+    }
 
-        // Auto-shuffle player order before starting the game
-        shufflePlayersForGameStart(room);
+    public GameRoom joinRoom(String roomId, String playerName) throws GameException {
+        return withRoom(roomId, room -> {
+            if (room == null) {
+                throw new GameException("Room not found");
+            }
+            if (room.getState() != GameState.WAITING_FOR_PLAYERS) {
+                throw new GameException("Game already started");
+            }
 
-        room.setSecretNumber(random.nextInt(99) + 1);
-        room.setMinRange(1);
-        room.setMaxRange(99);
-        room.setCurrentPlayerIndex(0);
-        room.setState(GameState.IN_PROGRESS);
-        room.setGameHistory(new ArrayList<>());
+            String playerId = UUID.randomUUID().toString();
+            Player player = new Player(playerId, playerName, false);
+            room.getPlayers().add(player);
+            playerRoomMap.put(playerId, roomId);
 
-        return room;
+            markUpdated(room);
+            return room;
+        });
+    }
+
+    public GameRoom startGame(String roomId, String hostId) throws GameException {
+        return withRoom(roomId, room -> {
+            if (room == null || !room.getHostId().equals(hostId)) {
+                throw new GameException("Unauthorized or room not found");
+            }
+
+            // Auto-shuffle player order before starting the game
+            shufflePlayersForGameStart(room);
+
+            room.setSecretNumber(random.nextInt(99) + 1);
+            room.setMinRange(1);
+            room.setMaxRange(99);
+            room.setCurrentPlayerIndex(0);
+            room.setState(GameState.IN_PROGRESS);
+            room.setGameHistory(new ArrayList<>());
+
+            markUpdated(room);
+            return room;
+        });
     }
 
     private void shufflePlayersForGameStart(GameRoom room) {
@@ -95,37 +204,39 @@ private final Map<String, GameRoom> gameRooms = new ConcurrentHashMap<>();
     }
 
     public GameTurn makeGuess(String roomId, String playerId, int guess) throws GameException {
-        GameRoom room = gameRooms.get(roomId);
-        if (room == null || room.getState() != GameState.IN_PROGRESS) {
-            throw new GameException("Invalid game state");
-        }
-        
-        Player currentPlayer = room.getPlayers().get(room.getCurrentPlayerIndex());
-        if (!currentPlayer.getId().equals(playerId)) {
-            throw new GameException("Not your turn");
-        }
-        
-        GameTurn turn = new GameTurn();
-        turn.setPlayerId(playerId);
-        turn.setPlayerName(currentPlayer.getName());
-        turn.setGuess(guess);
-        turn.setTimestamp(System.currentTimeMillis());
-        
-        if (guess == room.getSecretNumber()) {
-            turn.setResult("SECRET NUMBER GUESSED! " + currentPlayer.getName() + " lost!");
-            room.setState(GameState.FINISHED);
-        } else if (guess < room.getSecretNumber()) {
-            room.setMinRange(guess + 1);
-            turn.setResult("Range: " + room.getMinRange() + "-" + room.getMaxRange());
-            moveToNextPlayer(room);
-        } else {
-            room.setMaxRange(guess - 1);
-            turn.setResult("Range: " + room.getMinRange() + "-" + room.getMaxRange());
-            moveToNextPlayer(room);
-        }
-        
-        room.getGameHistory().add(turn);
-        return turn;
+        return withRoom(roomId, room -> {
+            if (room == null || room.getState() != GameState.IN_PROGRESS) {
+                throw new GameException("Invalid game state");
+            }
+
+            Player currentPlayer = room.getPlayers().get(room.getCurrentPlayerIndex());
+            if (!currentPlayer.getId().equals(playerId)) {
+                throw new GameException("Not your turn");
+            }
+
+            GameTurn turn = new GameTurn();
+            turn.setPlayerId(playerId);
+            turn.setPlayerName(currentPlayer.getName());
+            turn.setGuess(guess);
+            turn.setTimestamp(System.currentTimeMillis());
+
+            if (guess == room.getSecretNumber()) {
+                turn.setResult("SECRET NUMBER GUESSED! " + currentPlayer.getName() + " lost!");
+                room.setState(GameState.FINISHED);
+            } else if (guess < room.getSecretNumber()) {
+                room.setMinRange(guess + 1);
+                turn.setResult("Range: " + room.getMinRange() + "-" + room.getMaxRange());
+                moveToNextPlayer(room);
+            } else {
+                room.setMaxRange(guess - 1);
+                turn.setResult("Range: " + room.getMinRange() + "-" + room.getMaxRange());
+                moveToNextPlayer(room);
+            }
+
+            room.getGameHistory().add(turn);
+            markUpdated(room);
+            return turn;
+        });
     }
 
     private void moveToNextPlayer(GameRoom room) {
@@ -133,119 +244,280 @@ private final Map<String, GameRoom> gameRooms = new ConcurrentHashMap<>();
         room.setCurrentPlayerIndex(nextIndex);
     }
 
-    private String generateRoomId() {
-        return String.valueOf(random.nextInt(9000) + 1000);
+    /**
+     * Gives the room a free ID and puts it in gameRooms. A few random IDs are tried first, then the
+     * whole space is scanned from a random point, so allocation ends even when the space is full.
+     * The check and insert run inside compute, which serializes them with eviction and rehydration.
+     */
+    private String claimRoomId(GameRoom room) throws GameException {
+        int start = random.nextInt(ROOM_ID_SPACE);
+        for (int attempt = 0; attempt < ROOM_ID_SPACE + 16; attempt++) {
+            int offset = attempt < 16 ? random.nextInt(ROOM_ID_SPACE) : (start + attempt) % ROOM_ID_SPACE;
+            String roomId = String.valueOf(offset + 1000);
+            room.setRoomId(roomId);
+            markUpdated(room);
+
+            GameRoom claimed = gameRooms.compute(roomId,
+                    (id, existing) -> existing != null || dormantRooms.contains(id) ? existing : room);
+            if (claimed == room) {
+                return roomId;
+            }
+        }
+        throw new GameException("No free room IDs, try again later");
     }
 
-    @Override
-    public GameRoom getRoom(String roomId) {
-        return gameRooms.get(roomId);
+    private void markUpdated(GameRoom room) {
+        room.setVersion(versionSequence.incrementAndGet());
     }
 
+    private interface RoomAction<T> {
+        T apply(GameRoom room) throws GameException;
+    }
 
-    @Override
-    public GameRoom playerQuitGame(String roomId, String playerName) throws GameException {
-        GameRoom room = gameRooms.get(roomId);
-        if (room == null) {
-            throw new GameException("Room not found");
+    /**
+     * Runs the action while holding the room's lock. All room mutations go through here.
+     * After locking, the room is checked to still be the live instance, since it may have been
+     * moved to the dormant tier or removed in the meantime; in that case the lookup is retried.
+     * A missing room is passed as null so each caller keeps its own error message.
+     */
+    private <T> T withRoom(String roomId, RoomAction<T> action) throws GameException {
+        while (true) {
+            GameRoom room = findRoom(roomId);
+            if (room == null) {
+                return action.apply(null);
+            }
+            synchronized (room) {
+                if (gameRooms.get(roomId) == room) {
+                    return action.apply(room);
+                }
+            }
         }
+    }
 
-        // Find and remove player from room
-        Player playerToRemove = room.getPlayers().stream()
-            .filter(p -> p.getName().equals(playerName))
-            .findFirst()
-            .orElseThrow(() -> new GameException("Player not found in room"));
-
-        room.getPlayers().remove(playerToRemove);
-
-        // Remove player from mapping
-        playerRoomMap.remove(playerToRemove.getId());
+    /**
+     * Removes a player while keeping currentPlayerIndex on the same player.
+     * If it was the removed player's turn, the turn passes to whoever takes their seat.
+     */
+    private void removeFromTurnOrder(GameRoom room, Player player) {
+        int removedIndex = room.getPlayers().indexOf(player);
+        room.getPlayers().remove(removedIndex);
 
-        // If this was the host and there are other players, assign new host
-        if (playerToRemove.isHost() && !room.getPlayers().isEmpty()) {
-            Player newHost = room.getPlayers().get(0);
-            newHost.setHost(true);
-            room.setHostId(newHost.getId());
+        if (removedIndex < room.getCurrentPlayerIndex()) {
+            room.setCurrentPlayerIndex(room.getCurrentPlayerIndex() - 1);
+        }
+        if (room.getCurrentPlayerIndex() >= room.getPlayers().size()) {
+            room.setCurrentPlayerIndex(0);
         }
+    }
 
-        // If no players left, remove the room
-        if (room.getPlayers().isEmpty()) {
-            gameRooms.remove(roomId);
+    /**
+     * Returns the room, rehydrating it from the dormant tier if needed, and records the access.
+     * Runs inside compute so it cannot interleave with the eviction of the same room.
+     * Map locks are always taken last: nothing inside a compute may take a room lock.
+     */
+    private GameRoom findRoom(String roomId) {
+        if (roomId == null) {
+            return null;
         }
+        return gameRooms.compute(roomId, (id, room) -> {
+            GameRoom active = room != null ? room : dormantRooms.take(id);
+            if (active != null) {
+                roomLastActivity.put(id, System.currentTimeMillis());
+            }
+            return active;
+        });
+    }
 
-        return room;
+    @Scheduled(fixedDelayString = "${game.rooms.dormant.sweep-interval-ms:60000}")
+    public void evictDormantRooms() {
+        if (!dormantTierEnabled) {
+            return;
+        }
+        int evicted = evictIdleRooms(dormantIdleThresholdMs);
+        int expired = purgeExpiredRooms(dormantTtlMs);
+        if (evicted > 0 || expired > 0) {
+            System.out.println("DEBUG: Moved " + evicted + " idle rooms to dormant storage, deleted " + expired
+                    + " expired (" + dormantRooms.size() + " dormant, " + dormantRooms.offHeapBytes() + " bytes off-heap)");
+        }
     }
 
-    @Override
-    public GameRoom restartGame(String roomId, String hostId) throws GameException {
-        GameRoom room = gameRooms.get(roomId);
-        if (room == null || !room.getHostId().equals(hostId)) {
-            throw new GameException("Unauthorized or room not found");
+    /**
+     * Deletes rooms that have been dormant for longer than the given time and unmaps their players.
+     * Returns the number of rooms deleted.
+     */
+    int purgeExpiredRooms(long ttlMs) {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        int purged = 0;
+        for (String roomId : dormantRooms.dormantBefore(cutoff)) {
+            GameRoom[] expired = new GameRoom[1];
+            // Inside compute so a concurrent rehydration either wins or finds the room gone
+            gameRooms.compute(roomId, (id, room) -> {
+                if (room == null && dormantRooms.isDormantBefore(id, cutoff)) {
+                    expired[0] = dormantRooms.take(id);
+                }
+                return room;
+            });
+            if (expired[0] != null) {
+                for (Player player : expired[0].getPlayers()) {
+                    playerRoomMap.remove(player.getId(), roomId);
+                }
+                eventPublisher.publishEvent(new RoomRemovedEvent(roomId));
+                purged++;
+            }
         }
+        return purged;
+    }
 
-        if (room.getState() != GameState.FINISHED) {
-            throw new GameException("Game is not finished");
+    // Rolls back a room inserted by a batch that could not complete
+    private void deleteRoom(GameRoom room) {
+        synchronized (room) {
+            gameRooms.remove(room.getRoomId(), room);
+            roomLastActivity.remove(room.getRoomId());
+            for (Player player : room.getPlayers()) {
+                playerRoomMap.remove(player.getId(), room.getRoomId());
+            }
         }
+    }
 
-        // Reset game state to allow new players to join
-        room.setState(GameState.WAITING_FOR_PLAYERS);
-        room.setSecretNumber(0);
-        room.setMinRange(1);
-        room.setMaxRange(99);
-        room.setCurrentPlayerIndex(0);
-        if (room.getGameHistory() != null) {
-            room.getGameHistory().clear();
+    /**
+     * Moves rooms that are waiting or finished and have not been touched for the given time
+     * into the dormant tier. Returns the number of rooms moved.
+     */
+    int evictIdleRooms(long idleThresholdMs) {
+        long cutoff = System.currentTimeMillis() - idleThresholdMs;
+        int evicted = 0;
+        for (Map.Entry<String, GameRoom> entry : gameRooms.entrySet()) {
+            GameRoom candidate = entry.getValue();
+            boolean[] moved = new boolean[1];
+            // Take the room lock first so no mutation is in flight on the instance being serialized
+            synchronized (candidate) {
+                gameRooms.computeIfPresent(entry.getKey(), (id, room) -> {
+                    if (room != candidate || room.getState() == GameState.IN_PROGRESS
+                            || roomLastActivity.getOrDefault(id, 0L) > cutoff) {
+                        return room;
+                    }
+                    try {
+                        dormantRooms.put(room);
+                    } catch (UncheckedIOException e) {
+                        // e.g. a string too long for the codec; keep the room on the heap and retry after another idle period
+                        System.err.println("Could not move room " + id + " to dormant storage: " + e.getMessage());
+                        roomLastActivity.put(id, System.currentTimeMillis());
+                        return room;
+                    }
+                    roomLastActivity.remove(id);
+                    moved[0] = true;
+                    return null;
+                });
+            }
+            if (moved[0]) {
+                evicted++;
+            }
         }
+        return evicted;
+    }
 
-        return room;
+    long dormantRoomBytes() {
+        return dormantRooms.offHeapBytes();
+    }
+
+    Map<String, String> playerRoomMappings() {
+        return Collections.unmodifiableMap(playerRoomMap);
     }
 
     @Override
-    public GameRoom removePlayer(String roomId, String hostId, String playerName) throws GameException {
-        GameRoom room = gameRooms.get(roomId);
-        if (room == null || !room.getHostId().equals(hostId)) {
-            throw new GameException("Unauthorized or room not found");
-        }
+    public GameRoom getRoom(String roomId) {
+        return findRoom(roomId);
+    }
 
-        // Find and remove the specified player
-        Player playerToRemove = room.getPlayers().stream()
-            .filter(p -> p.getName().equals(playerName))
-            .findFirst()
-            .orElseThrow(() -> new GameException("Player not found in room"));
 
-        // Prevent host from removing themselves
-        if (playerToRemove.getId().equals(hostId)) {
-            throw new GameException("Host cannot remove themselves");
-        }
+    @Override
+    public GameRoom playerQuitGame(String roomId, String playerName) throws GameException {
+        return withRoom(roomId, room -> {
+            if (room == null) {
+                throw new GameException("Room not found");
+            }
 
-        room.getPlayers().remove(playerToRemove);
-        playerRoomMap.remove(playerToRemove.getId());
+            // Find and remove player from room
+            Player playerToRemove = room.getPlayers().stream()
+                .filter(p -> p.getName().equals(playerName))
+                .findFirst()
+                .orElseThrow(() -> new GameException("Player not found in room"));
 
-        // If game is in progress and removed player was current, move to next
-        if (room.getState() == GameState.IN_PROGRESS) {
-            // Find the index of the removed player
-            int removedPlayerIndex = -1;
-            for (int i = 0; i < room.getPlayers().size() + 1; i++) {
-                if (i == room.getCurrentPlayerIndex()) {
-                    removedPlayerIndex = i;
-                    break;
-                }
+            removeFromTurnOrder(room, playerToRemove);
+
+            // Remove player from mapping
+            playerRoomMap.remove(playerToRemove.getId());
+
+            // If this was the host and there are other players, assign new host
+            if (playerToRemove.isHost() && !room.getPlayers().isEmpty()) {
+                Player newHost = room.getPlayers().get(0);
+                newHost.setHost(true);
+                room.setHostId(newHost.getId());
             }
 
-            // Adjust current player index if necessary
-            if (removedPlayerIndex != -1 && removedPlayerIndex <= room.getCurrentPlayerIndex()) {
-                if (room.getCurrentPlayerIndex() > 0) {
-                    room.setCurrentPlayerIndex(room.getCurrentPlayerIndex() - 1);
-                }
+            // If no players left, remove the room
+            if (room.getPlayers().isEmpty()) {
+                gameRooms.remove(roomId);
+                roomLastActivity.remove(roomId);
+                eventPublisher.publishEvent(new RoomRemovedEvent(roomId));
             }
 
-            // Ensure current player index is valid
-            if (room.getCurrentPlayerIndex() >= room.getPlayers().size()) {
-                room.setCurrentPlayerIndex(0);
+            markUpdated(room);
+            return room;
+        });
+    }
+
+    @Override
+    public GameRoom restartGame(String roomId, String hostId) throws GameException {
+        return withRoom(roomId, room -> {
+            if (room == null || !room.getHostId().equals(hostId)) {
+                throw new GameException("Unauthorized or room not found");
             }
-        }
 
-        return room;
+            if (room.getState() != GameState.FINISHED) {
+                throw new GameException("Game is not finished");
+            }
+
+            // Reset game state to allow new players to join
+            room.setState(GameState.WAITING_FOR_PLAYERS);
+            room.setSecretNumber(0);
+            room.setMinRange(1);
+            room.setMaxRange(99);
+            room.setCurrentPlayerIndex(0);
+            if (room.getGameHistory() != null) {
+                room.getGameHistory().clear();
+            }
+
+            markUpdated(room);
+            return room;
+        });
+    }
+
+    @Override
+    public GameRoom removePlayer(String roomId, String hostId, String playerName) throws GameException {
+        return withRoom(roomId, room -> {
+            if (room == null || !room.getHostId().equals(hostId)) {
+                throw new GameException("Unauthorized or room not found");
+            }
+
+            // Find and remove the specified player
+            Player playerToRemove = room.getPlayers().stream()
+                .filter(p -> p.getName().equals(playerName))
+                .findFirst()
+                .orElseThrow(() -> new GameException("Player not found in room"));
+
+            // Prevent host from removing themselves
+            if (playerToRemove.getId().equals(hostId)) {
+                throw new GameException("Host cannot remove themselves");
+            }
+
+            // If it was the removed player's turn, the next player in order takes it
+            removeFromTurnOrder(room, playerToRemove);
+            playerRoomMap.remove(playerToRemove.getId());
+
+            markUpdated(room);
+            return room;
+        });
     }
 
 
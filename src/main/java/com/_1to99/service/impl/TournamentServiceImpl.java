@@ -0,0 +1,233 @@
+package com._1to99.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com._1to99.dto.BulkCreateRoomsMessage;
+import com._1to99.dto.BulkCreateRoomsResponse;
+import com._1to99.dto.GameUpdateMessage;
+import com._1to99.dto.SeatClaim;
+import com._1to99.exception.GameException;
+import com._1to99.messaging.RoomBroadcaster;
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameState;
+import com._1to99.model.GameTurn;
+import com._1to99.model.Player;
+import com._1to99.model.Tournament;
+import com._1to99.service.GameService;
+import com._1to99.service.RoomRemovedEvent;
+import com._1to99.service.TournamentService;
+
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class TournamentServiceImpl implements TournamentService {
+
+    // Same countdown as /app/startGameCountdown
+    private static final long COUNTDOWN_MS = 5000;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private RoomBroadcaster roomBroadcaster;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Value("${game.tournaments.default-stagger-ms:200}")
+    private long defaultStaggerMs;
+
+    // Finished tournaments stay readable over GET for this long
+    @Value("${game.tournaments.retention-ms:3600000}")
+    private long retentionMs;
+
+    private final Map<String, Tournament> tournaments = new ConcurrentHashMap<>();
+    private final Map<String, String> roomTournamentMap = new ConcurrentHashMap<>();
+
+    // Unredeemed claim tokens; player IDs are public in room snapshots, so they cannot serve as credentials
+    private record PendingSeat(String tournamentId, String roomId, String playerId) {
+    }
+
+    private final Map<String, PendingSeat> pendingSeats = new ConcurrentHashMap<>();
+
+    // One shared scheduler instead of a Timer thread per room
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tournament-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public BulkCreateRoomsResponse createTournament(BulkCreateRoomsMessage message) throws GameException {
+        long staggerMs = message.getStaggerMs() != null ? message.getStaggerMs() : defaultStaggerMs;
+        if (staggerMs < 0) {
+            throw new GameException("staggerMs cannot be negative");
+        }
+
+        List<GameRoom> rooms = gameService.createRooms(message.getRooms());
+
+        String tournamentId = UUID.randomUUID().toString();
+        List<String> roomIds = rooms.stream().map(GameRoom::getRoomId).toList();
+        Tournament tournament = new Tournament(tournamentId, roomIds, new ConcurrentHashMap<>(),
+                ConcurrentHashMap.newKeySet(), System.currentTimeMillis());
+        tournaments.put(tournamentId, tournament);
+        roomIds.forEach(roomId -> roomTournamentMap.put(roomId, tournamentId));
+
+        List<SeatClaim> seats = new ArrayList<>();
+        for (GameRoom room : rooms) {
+            for (Player player : room.getPlayers()) {
+                String claimToken = UUID.randomUUID().toString();
+                pendingSeats.put(claimToken, new PendingSeat(tournamentId, room.getRoomId(), player.getId()));
+                seats.add(new SeatClaim(room.getRoomId(), player.getName(), claimToken));
+            }
+        }
+
+        if (message.isAutoStart()) {
+            for (int i = 0; i < rooms.size(); i++) {
+                scheduleStart(tournamentId, rooms.get(i), i * staggerMs);
+            }
+        }
+
+        return new BulkCreateRoomsResponse(tournamentId, rooms, seats);
+    }
+
+    private void scheduleStart(String tournamentId, GameRoom room, long delayMs) {
+        String roomId = room.getRoomId();
+
+        scheduler.schedule(() -> {
+            GameRoom countdownRoom = awaitingStart(tournamentId, roomId);
+            if (countdownRoom == null) {
+                return;
+            }
+            GameUpdateMessage update = new GameUpdateMessage();
+            update.setType("GAME_STARTING_COUNTDOWN");
+            update.setGameRoom(countdownRoom);
+            update.setMessage("Game starting in 5 seconds...");
+            roomBroadcaster.broadcast(roomId, update);
+        }, delayMs, TimeUnit.MILLISECONDS);
+
+        scheduler.schedule(() -> {
+            try {
+                GameRoom startedRoom = awaitingStart(tournamentId, roomId);
+                if (startedRoom == null) {
+                    return;
+                }
+                // Held across the check and the start so the host cannot start the room in between
+                synchronized (startedRoom) {
+                    if (awaitingStart(tournamentId, roomId) != startedRoom) {
+                        return;
+                    }
+                    gameService.startGame(roomId, startedRoom.getHostId());
+                }
+
+                GameUpdateMessage startUpdate = new GameUpdateMessage();
+                startUpdate.setType("GAME_STARTED");
+                startUpdate.setGameRoom(startedRoom);
+                startUpdate.setMessage("Game started! Current range: 1-99");
+                roomBroadcaster.broadcast(roomId, startUpdate);
+            } catch (Exception e) {
+                System.err.println("Error starting tournament room " + roomId + ": " + e.getMessage());
+            }
+        }, delayMs + COUNTDOWN_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // The room if it still belongs to the tournament and has not been started; a deleted ID may have been reused
+    private GameRoom awaitingStart(String tournamentId, String roomId) {
+        if (!tournamentId.equals(roomTournamentMap.get(roomId))) {
+            return null;
+        }
+        GameRoom room = gameService.getRoom(roomId);
+        return room != null && room.getState() == GameState.WAITING_FOR_PLAYERS ? room : null;
+    }
+
+    @Override
+    public Tournament getTournament(String tournamentId) {
+        return tournaments.get(tournamentId);
+    }
+
+    @Override
+    public String claimSeat(String roomId, String claimToken) throws GameException {
+        PendingSeat seat = claimToken != null ? pendingSeats.remove(claimToken) : null;
+        if (seat == null || !seat.roomId().equals(roomId) || !seat.tournamentId().equals(roomTournamentMap.get(roomId))) {
+            throw new GameException("Seat not found");
+        }
+
+        GameRoom room = gameService.getRoom(roomId);
+        if (room == null || room.getPlayers().stream().noneMatch(p -> p.getId().equals(seat.playerId()))) {
+            throw new GameException("Seat not found");
+        }
+        return seat.playerId();
+    }
+
+    @Override
+    public void roomFinished(GameRoom room, GameTurn losingTurn) {
+        Tournament tournament = tournamentOf(room.getRoomId());
+        if (tournament == null) {
+            return;
+        }
+
+        // Only the first game in each room counts towards the tournament
+        boolean justCompleted;
+        synchronized (tournament) {
+            justCompleted = !tournament.getAbandonedRoomIds().contains(room.getRoomId())
+                    && tournament.getLosers().putIfAbsent(room.getRoomId(), losingTurn.getPlayerName()) == null
+                    && tournament.isComplete();
+        }
+        if (justCompleted) {
+            complete(tournament);
+        }
+    }
+
+    // A room that is deleted before its first game finished no longer holds the tournament open
+    @EventListener
+    public void roomRemoved(RoomRemovedEvent event) {
+        Tournament tournament = tournamentOf(event.roomId());
+        // The ID may be reused by an unrelated room from here on
+        roomTournamentMap.remove(event.roomId());
+        pendingSeats.values().removeIf(seat -> seat.roomId().equals(event.roomId()));
+        if (tournament == null) {
+            return;
+        }
+
+        boolean justCompleted;
+        synchronized (tournament) {
+            justCompleted = !tournament.getLosers().containsKey(event.roomId())
+                    && tournament.getAbandonedRoomIds().add(event.roomId())
+                    && tournament.isComplete();
+        }
+        if (justCompleted) {
+            complete(tournament);
+        }
+    }
+
+    private Tournament tournamentOf(String roomId) {
+        String tournamentId = roomTournamentMap.get(roomId);
+        return tournamentId != null ? tournaments.get(tournamentId) : null;
+    }
+
+    private void complete(Tournament tournament) {
+        String tournamentId = tournament.getTournamentId();
+        tournament.getRoomIds().forEach(roomId -> roomTournamentMap.remove(roomId, tournamentId));
+        pendingSeats.values().removeIf(seat -> seat.tournamentId().equals(tournamentId));
+        messagingTemplate.convertAndSend("/topic/tournament." + tournamentId, tournament);
+        scheduler.schedule(() -> tournaments.remove(tournamentId), retentionMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+}
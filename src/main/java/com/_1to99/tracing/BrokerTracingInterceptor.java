@@ -0,0 +1,46 @@
+package com._1to99.tracing;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * Records the broker dispatch of outgoing messages sent while a trace is active.
+ * The simple broker handles the broker channel on the calling thread, so this spans
+ * subscription matching and the hand-off to the client outbound channel.
+ */
+public class BrokerTracingInterceptor implements ChannelInterceptor {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/room.";
+
+    private final Tracer tracer;
+    private final ThreadLocal<Long> dispatchStart = new ThreadLocal<>();
+
+    public BrokerTracingInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        Trace trace = tracer.current();
+        if (trace != null) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination != null && destination.startsWith(ROOM_TOPIC_PREFIX)) {
+                trace.tagRoom(destination.substring(ROOM_TOPIC_PREFIX.length()));
+            }
+            dispatchStart.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        Trace trace = tracer.current();
+        Long start = dispatchStart.get();
+        if (trace != null && start != null) {
+            trace.addSpan("broker.dispatch", start, System.nanoTime());
+            dispatchStart.remove();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com._1to99.tracing;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import com._1to99.model.GameRoom;
+import com._1to99.service.GameService;
+import com._1to99.service.RoomId;
+
+/**
+ * Wraps the GameService bean so that each call made during an active trace becomes a "service.*" span.
+ * Calls outside a trace only pay for the thread-local lookup.
+ */
+@Component
+public class GameServiceTracingPostProcessor implements BeanPostProcessor {
+
+    @Autowired
+    private ObjectProvider<Tracer> tracerProvider;
+
+    @Value("${game.tracing.enabled:true}")
+    private boolean enabled;
+
+    // Position of the @RoomId parameter per invoked method, -1 when there is none
+    private final Map<Method, Integer> roomIdParameters = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof GameService)) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        // Class-based proxy, so methods outside the interface such as the @Scheduled sweep stay invocable
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Trace trace = tracerProvider.getObject().current();
+            if (trace == null) {
+                return invocation.proceed();
+            }
+
+            int roomIdIndex = roomIdParameters.computeIfAbsent(invocation.getMethod(), this::findRoomIdParameter);
+            if (roomIdIndex >= 0 && invocation.getArguments()[roomIdIndex] instanceof String roomId) {
+                trace.tagRoom(roomId);
+            }
+
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                if (result instanceof GameRoom room) {
+                    trace.tagRoom(room.getRoomId());
+                }
+                return result;
+            } finally {
+                trace.addSpan("service." + invocation.getMethod().getName(), start, System.nanoTime());
+            }
+        });
+        return proxyFactory.getProxy();
+    }
+
+    // The annotation sits on the GameService declaration, which the class-based proxy does not see directly
+    private int findRoomIdParameter(Method method) {
+        try {
+            Method declared = GameService.class.getMethod(method.getName(), method.getParameterTypes());
+            Annotation[][] annotations = declared.getParameterAnnotations();
+            for (int i = 0; i < annotations.length; i++) {
+                for (Annotation annotation : annotations[i]) {
+                    if (annotation instanceof RoomId) {
+                        return i;
+                    }
+                }
+            }
+        } catch (NoSuchMethodException e) {
+            // Not part of GameService, e.g. the scheduled sweep
+        }
+        return -1;
+    }
+}
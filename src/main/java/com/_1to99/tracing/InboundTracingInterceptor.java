@@ -0,0 +1,75 @@
+package com._1to99.tracing;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * Starts a trace for sampled SEND frames on the client inbound channel.
+ * The queueing time is measured from preSend on the transport thread to beforeHandle on the
+ * executor thread; the trace itself lives on the executor thread while the @MessageMapping method runs.
+ */
+public class InboundTracingInterceptor implements ExecutorChannelInterceptor {
+
+    private final Tracer tracer;
+    // Keyed by the message instance: WebSocket messages are created without an ID header
+    private final Map<Message<?>, Long> queuedAt = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final ThreadLocal<Long> handlerStart = new ThreadLocal<>();
+
+    public InboundTracingInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                && tracer.shouldSample()) {
+            queuedAt.put(message, System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null) {
+            queuedAt.remove(message);
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        // The broker handlers see the same message; only the @MessageMapping dispatch is traced
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return message;
+        }
+        Long queued = queuedAt.remove(message);
+        if (queued == null) {
+            return message;
+        }
+
+        long now = System.nanoTime();
+        tracer.begin(SimpMessageHeaderAccessor.getDestination(message.getHeaders()), queued);
+        tracer.current().addSpan("inbound.queue", queued, now);
+        handlerStart.set(now);
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Trace trace = tracer.current();
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler) || trace == null) {
+            return;
+        }
+        trace.addSpan("handler", handlerStart.get(), System.nanoTime());
+        handlerStart.remove();
+        tracer.end();
+    }
+}
@@ -0,0 +1,5 @@
+package com._1to99.tracing;
+
+// Offsets and durations are relative to the start of the owning trace
+public record Span(String name, long offsetMicros, long durationMicros) {
+}
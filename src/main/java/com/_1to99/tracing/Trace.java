@@ -0,0 +1,43 @@
+package com._1to99.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * One inbound STOMP message, from the moment it was queued on the inbound channel
+ * until its handler returned. Only touched by the handling thread until it is finished.
+ */
+@Getter
+public class Trace {
+    private final String destination;
+    private final long startedAt; // epoch millis
+    @Getter(AccessLevel.NONE)
+    private final long startNanos;
+    private String roomId;
+    private long durationMicros;
+    private final List<Span> spans = new ArrayList<>();
+
+    Trace(String destination, long startNanos) {
+        this.destination = destination;
+        this.startNanos = startNanos;
+        this.startedAt = System.currentTimeMillis() - (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public void addSpan(String name, long spanStartNanos, long spanEndNanos) {
+        spans.add(new Span(name, (spanStartNanos - startNanos) / 1000, (spanEndNanos - spanStartNanos) / 1000));
+    }
+
+    // The first room seen wins, later ones are usually the same room anyway
+    public void tagRoom(String roomId) {
+        if (this.roomId == null) {
+            this.roomId = roomId;
+        }
+    }
+
+    void finish(long endNanos) {
+        durationMicros = (endNanos - startNanos) / 1000;
+    }
+}
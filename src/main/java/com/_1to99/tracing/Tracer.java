@@ -0,0 +1,86 @@
+package com._1to99.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Lightweight in-process tracing for inbound STOMP messages.
+ * A sampled message gets a trace bound to the handling thread. The most recent finished traces are kept
+ * in a ring buffer, and the slowest of those are reported, so old outliers age out.
+ */
+@Component
+public class Tracer {
+
+    @Value("${game.tracing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.tracing.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${game.tracing.max-traces:50}")
+    private int maxTraces;
+
+    @Value("${game.tracing.window-size:1000}")
+    private int windowSize;
+
+    private final ThreadLocal<Trace> currentTrace = new ThreadLocal<>();
+
+    private Trace[] recent;
+    private int nextSlot;
+
+    @PostConstruct
+    public void init() {
+        recent = new Trace[Math.max(windowSize, 1)];
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean shouldSample() {
+        return enabled && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public void begin(String destination, long startNanos) {
+        currentTrace.set(new Trace(destination, startNanos));
+    }
+
+    public Trace current() {
+        return currentTrace.get();
+    }
+
+    public void end() {
+        Trace trace = currentTrace.get();
+        if (trace == null) {
+            return;
+        }
+        currentTrace.remove();
+        trace.finish(System.nanoTime());
+
+        synchronized (this) {
+            recent[nextSlot] = trace;
+            nextSlot = (nextSlot + 1) % recent.length;
+        }
+    }
+
+    // The slowest of the last window-size finished traces
+    public List<Trace> getSlowestTraces() {
+        List<Trace> traces = new ArrayList<>(recent.length);
+        synchronized (this) {
+            for (Trace trace : recent) {
+                if (trace != null) {
+                    traces.add(trace);
+                }
+            }
+        }
+        traces.sort(Comparator.comparingLong(Trace::getDurationMicros).reversed());
+        return traces.size() > maxTraces ? new ArrayList<>(traces.subList(0, maxTraces)) : traces;
+    }
+}
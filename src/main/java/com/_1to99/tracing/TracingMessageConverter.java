@@ -0,0 +1,41 @@
+package com._1to99.tracing;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConverter;
+
+/**
+ * Times outgoing object-to-JSON conversion while a trace is active.
+ * Only handles object payloads on the way out; everything else is left to the default converters.
+ */
+public class TracingMessageConverter implements MessageConverter {
+
+    private final MessageConverter delegate;
+    private final Tracer tracer;
+
+    public TracingMessageConverter(MessageConverter delegate, Tracer tracer) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object fromMessage(Message<?> message, Class<?> targetClass) {
+        return null;
+    }
+
+    @Override
+    public Message<?> toMessage(Object payload, MessageHeaders headers) {
+        if (payload instanceof String || payload instanceof byte[]) {
+            return null;
+        }
+        Trace trace = tracer.current();
+        if (trace == null) {
+            return delegate.toMessage(payload, headers);
+        }
+
+        long start = System.nanoTime();
+        Message<?> message = delegate.toMessage(payload, headers);
+        trace.addSpan("serialize", start, System.nanoTime());
+        return message;
+    }
+}
@@ -0,0 +1,60 @@
+package com._1to99;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com._1to99.exception.GameException;
+import com._1to99.messaging.RoomChangeNotifier;
+import com._1to99.model.GameRoom;
+import com._1to99.service.GameService;
+import com._1to99.tracing.Tracer;
+
+@SpringBootTest
+class ApplicationTests {
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private Tracer tracer;
+
+	@Autowired
+	private RoomChangeNotifier roomChangeNotifier;
+
+	@Test
+	void contextLoads() throws GameException {
+		assertNotNull(gameService.createRoom("host"));
+	}
+
+	@Test
+	void removingARoomWakesItsPollers() throws GameException {
+		GameRoom room = gameService.createRoom("host");
+		AtomicBoolean woken = new AtomicBoolean();
+		roomChangeNotifier.register(room.getRoomId(), () -> woken.set(true));
+
+		gameService.playerQuitGame(room.getRoomId(), "host");
+		assertTrue(woken.get());
+	}
+
+	@Test
+	void tracedServiceCallsAreTaggedWithTheRoom() throws GameException {
+		GameRoom room = gameService.createRoom("host");
+		tracer.begin("/app/joinRoom", System.nanoTime());
+		try {
+			// A failing call returns no room, so the tag has to come from the @RoomId argument
+			assertThrows(GameException.class, () -> gameService.makeGuess(room.getRoomId(), "player", 50));
+			assertEquals(room.getRoomId(), tracer.current().getRoomId());
+		} finally {
+			tracer.end();
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+package com._1to99.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com._1to99.dto.GameUpdateMessage;
+import com._1to99.exception.GameException;
+import com._1to99.model.GameRoom;
+import com._1to99.model.Player;
+import com._1to99.service.impl.GameServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * CPU cost versus bytes saved by permessage-deflate for the frames the game actually sends.
+ * Compression mirrors Tomcat's: raw deflate at the default level, SYNC_FLUSH per message and the
+ * trailing 00 00 ff ff dropped. Each message type is sent repeatedly on one connection, once with
+ * context takeover (the window carries over between messages) and once with the context reset.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=WebSocketCompressionBenchmark
+ */
+@Tag("benchmark")
+class WebSocketCompressionBenchmark {
+
+    private static final int MESSAGES = 2000;
+    private static final int WARMUP = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareMessageTypes() throws Exception {
+        Map<String, List<byte[]>> samples = buildSamples();
+
+        System.out.printf("%-22s %8s %14s %9s %14s %9s%n",
+                "type", "raw B", "takeover B", "ns/msg", "no-takeover B", "ns/msg");
+        for (Map.Entry<String, List<byte[]>> entry : samples.entrySet()) {
+            List<byte[]> frames = entry.getValue();
+            deflateAll(frames, true);
+            deflateAll(frames, false);
+
+            long raw = frames.stream().mapToLong(frame -> frame.length).sum() / frames.size();
+            long[] takeover = deflateAll(frames, true);
+            long[] reset = deflateAll(frames, false);
+            System.out.printf("%-22s %8d %14d %9d %14d %9d%n", entry.getKey(), raw,
+                    takeover[0] / frames.size(), takeover[1] / frames.size(),
+                    reset[0] / frames.size(), reset[1] / frames.size());
+
+            assertTrue(takeover[0] > 0 && reset[0] > 0);
+        }
+    }
+
+    // Returns {compressed bytes, elapsed ns} for sending every frame on one connection
+    private long[] deflateAll(List<byte[]> frames, boolean contextTakeover) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        byte[] buffer = new byte[64 * 1024];
+        long compressed = 0;
+
+        long start = System.nanoTime();
+        for (byte[] frame : frames) {
+            deflater.setInput(frame);
+            int written;
+            do {
+                written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                compressed += written;
+            } while (written == buffer.length);
+            compressed -= 4;
+            if (!contextTakeover) {
+                deflater.reset();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        deflater.end();
+        return new long[] { compressed, elapsed };
+    }
+
+    private Map<String, List<byte[]>> buildSamples() throws GameException {
+        Map<String, List<byte[]>> samples = new LinkedHashMap<>();
+        for (String type : List.of("ERROR", "PLAYER_JOINED", "GUESS_MADE (short)", "GUESS_MADE (long)")) {
+            samples.put(type, new ArrayList<>());
+        }
+
+        for (int i = 0; i < MESSAGES + WARMUP; i++) {
+            GameServiceImpl service = new GameServiceImpl();
+            GameRoom room = service.createRoom("host-" + i);
+            for (int p = 0; p < 7; p++) {
+                service.joinRoom(room.getRoomId(), "player-" + i + "-" + p);
+            }
+            samples.get("ERROR").add(frame("ERROR", null, "It's not your turn!"));
+            samples.get("PLAYER_JOINED").add(frame("PLAYER_JOINED", room, "player-" + i + "-6 joined the game"));
+
+            service.startGame(room.getRoomId(), room.getHostId());
+            guess(service, room, 3);
+            samples.get("GUESS_MADE (short)").add(frame("GUESS_MADE", room, "guessed"));
+            guess(service, room, 40);
+            samples.get("GUESS_MADE (long)").add(frame("GUESS_MADE", room, "guessed"));
+        }
+
+        // Drop the warmup part of each list so it only serves the JIT
+        samples.replaceAll((type, frames) -> frames.subList(WARMUP, frames.size()));
+        return samples;
+    }
+
+    // Narrows the range from both ends without hitting the secret number
+    private void guess(GameServiceImpl service, GameRoom room, int turns) throws GameException {
+        int secret = room.getSecretNumber();
+        for (int t = 0; t < turns && room.getMaxRange() > room.getMinRange(); t++) {
+            Player current = room.getPlayers().get(room.getCurrentPlayerIndex());
+            int guess = room.getMinRange() < secret ? room.getMinRange() : room.getMaxRange();
+            service.makeGuess(room.getRoomId(), current.getId(), guess);
+        }
+    }
+
+    private byte[] frame(String type, GameRoom room, String message) {
+        GameUpdateMessage update = new GameUpdateMessage();
+        update.setType(type);
+        update.setGameRoom(room);
+        update.setMessage(message);
+        try {
+            // STOMP MESSAGE frame as the simple broker sends it
+            String body = objectMapper.writeValueAsString(update);
+            String frame = "MESSAGE\ndestination:/topic/room.1234\ncontent-type:application/json\n"
+                    + "subscription:sub-0\nmessage-id:" + Long.toHexString(System.nanoTime())
+                    + "\ncontent-length:" + body.length() + "\n\n" + body + "\0";
+            return frame.getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
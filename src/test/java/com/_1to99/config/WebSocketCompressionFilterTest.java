@@ -0,0 +1,100 @@
+package com._1to99.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+class WebSocketCompressionFilterTest {
+
+    private static final String OFFER = "permessage-deflate; client_max_window_bits, x-webkit-deflate-frame";
+
+    @Test
+    void offerGetsTheConfiguredNoContextTakeoverParameters() throws Exception {
+        WebSocketCompressionFilter filter = new WebSocketCompressionFilter(true, false, false, 0);
+
+        assertEquals("permessage-deflate; client_max_window_bits; server_no_context_takeover; client_no_context_takeover, "
+                + "x-webkit-deflate-frame", offerSeenByTomcat(filter, OFFER));
+        // Parameters the client already sent are not repeated
+        assertEquals("permessage-deflate; server_no_context_takeover; client_no_context_takeover",
+                offerSeenByTomcat(filter, "permessage-deflate; server_no_context_takeover"));
+    }
+
+    @Test
+    void offerIsPassedThroughWithContextTakeover() throws Exception {
+        WebSocketCompressionFilter filter = new WebSocketCompressionFilter(true, true, true, 0);
+
+        assertEquals("permessage-deflate; client_max_window_bits, x-webkit-deflate-frame", offerSeenByTomcat(filter, OFFER));
+    }
+
+    @Test
+    void offerIsDroppedWhenCompressionIsDisabled() throws Exception {
+        WebSocketCompressionFilter filter = new WebSocketCompressionFilter(false, true, true, 0);
+
+        assertEquals("x-webkit-deflate-frame", offerSeenByTomcat(filter, OFFER));
+        assertNull(offerSeenByTomcat(filter, "permessage-deflate"));
+    }
+
+    @Test
+    void offerIsDroppedOnceTheSessionCapIsReached() throws Exception {
+        WebSocketCompressionFilter filter = new WebSocketCompressionFilter(true, true, true, 1);
+        WebSocketHandler handler = filter.decorate(mock(WebSocketHandler.class));
+        WebSocketSession session = session("permessage-deflate");
+
+        handler.afterConnectionEstablished(session);
+        assertNull(offerSeenByTomcat(filter, "permessage-deflate"));
+
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        assertEquals("permessage-deflate", offerSeenByTomcat(filter, "permessage-deflate"));
+    }
+
+    @Test
+    void onlyCompressedSessionsAreCounted() throws Exception {
+        WebSocketCompressionFilter filter = new WebSocketCompressionFilter(true, true, true, 0);
+        WebSocketHandler handler = filter.decorate(mock(WebSocketHandler.class));
+        WebSocketSession compressed = session("permessage-deflate");
+        WebSocketSession plain = session();
+
+        handler.afterConnectionEstablished(compressed);
+        handler.afterConnectionEstablished(plain);
+        assertEquals(1, filter.getCompressedSessions());
+
+        handler.afterConnectionClosed(plain, CloseStatus.NORMAL);
+        handler.afterConnectionClosed(compressed, CloseStatus.NORMAL);
+        assertEquals(0, filter.getCompressedSessions());
+
+        // A second close for the same session does not count it twice
+        handler.afterConnectionClosed(compressed, CloseStatus.NORMAL);
+        assertEquals(0, filter.getCompressedSessions());
+    }
+
+    // Runs a handshake request through the filter and returns the extensions header the chain sees
+    private static String offerSeenByTomcat(WebSocketCompressionFilter filter, String offer) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ws");
+        request.addHeader("Sec-WebSocket-Extensions", offer);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return ((HttpServletRequest) chain.getRequest()).getHeader("Sec-WebSocket-Extensions");
+    }
+
+    private static WebSocketSession session(String... extensions) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.getExtensions()).thenReturn(List.of(extensions).stream().map(WebSocketExtension::new).toList());
+        return session;
+    }
+}
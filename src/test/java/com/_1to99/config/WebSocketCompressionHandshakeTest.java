@@ -0,0 +1,121 @@
+package com._1to99.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration;
+
+/**
+ * Real upgrades against the native /ws endpoint, checking what Tomcat negotiates after the filter
+ * has rewritten the offer. The handshake is written by hand because the JDK WebSocket client does
+ * not let callers set Sec-WebSocket-Extensions.
+ */
+@NestedTestConfiguration(EnclosingConfiguration.OVERRIDE)
+class WebSocketCompressionHandshakeTest {
+
+    private static final String OFFER = "permessage-deflate; client_max_window_bits";
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "game.websocket.compression.server-context-takeover=false")
+    class Enabled {
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void deflateIsNegotiatedWithTheConfiguredParameters() throws IOException {
+            try (Socket socket = new Socket("localhost", port)) {
+                String extensions = handshake(socket, OFFER);
+                assertTrue(extensions != null && extensions.startsWith("permessage-deflate"), extensions);
+                assertTrue(extensions.contains("server_no_context_takeover"), extensions);
+            }
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "game.websocket.compression.enabled=false")
+    class Disabled {
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void deflateIsNotNegotiated() throws IOException {
+            try (Socket socket = new Socket("localhost", port)) {
+                assertNull(handshake(socket, OFFER));
+            }
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "game.websocket.compression.max-sessions=1")
+    class OverCap {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private WebSocketCompressionFilter filter;
+
+        @Test
+        void sessionsPastTheCapAreNotCompressed() throws Exception {
+            try (Socket first = new Socket("localhost", port)) {
+                assertTrue(handshake(first, OFFER).startsWith("permessage-deflate"));
+
+                // The session is counted once Spring has set it up, shortly after the 101
+                long deadline = System.currentTimeMillis() + 5000;
+                while (filter.getCompressedSessions() < 1 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertEquals(1, filter.getCompressedSessions());
+
+                try (Socket second = new Socket("localhost", port)) {
+                    assertNull(handshake(second, OFFER));
+                }
+            }
+        }
+    }
+
+    // Sends an upgrade request offering the given extensions and returns the negotiated extensions header
+    private static String handshake(Socket socket, String offer) throws IOException {
+        String request = "GET /ws HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                + "Sec-WebSocket-Version: 13\r\n"
+                + "Sec-WebSocket-Protocol: v12.stomp\r\n"
+                + "Sec-WebSocket-Extensions: " + offer + "\r\n"
+                + "\r\n";
+        socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+        socket.getOutputStream().flush();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        String status = reader.readLine();
+        assertTrue(status != null && status.contains(" 101 "), status);
+
+        String extensions = null;
+        for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+            if (line.regionMatches(true, 0, "Sec-WebSocket-Extensions:", 0, 25)) {
+                extensions = line.substring(25).trim();
+            }
+        }
+        return extensions;
+    }
+}
@@ -0,0 +1,198 @@
+package com._1to99.controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.RestTemplateXhrTransport;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+
+import com._1to99.dto.GameUpdateMessage;
+import com._1to99.exception.GameException;
+import com._1to99.messaging.RoomBroadcaster;
+import com._1to99.model.GameRoom;
+import com._1to99.service.GameService;
+
+/**
+ * Load comparison between the SockJS xhr-polling fallback and the ETag room endpoint.
+ * The same sequence of room updates is followed by many clients, and each scenario reports
+ * the HTTP requests the clients needed and how quickly they saw each update.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=PollingLoadBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PollingLoadBenchmark {
+
+    private static final int CLIENTS = 50;
+    private static final int UPDATES = 20;
+    private static final long UPDATE_INTERVAL_MS = 500;
+    private static final long SHORT_POLL_INTERVAL_MS = 250;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private RoomBroadcaster roomBroadcaster;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder deliveries = new LongAdder();
+    private final LongAdder totalLatencyMicros = new LongAdder();
+    private final AtomicLong lastUpdateNanos = new AtomicLong();
+
+    @Test
+    void etagShortPolling() throws Exception {
+        runEtagClients("ETag short poll", false);
+    }
+
+    @Test
+    void etagLongPolling() throws Exception {
+        runEtagClients("ETag long poll", true);
+    }
+
+    @Test
+    void sockJsXhrPolling() throws Exception {
+        GameRoom room = gameService.createRoom("host");
+
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            requests.increment();
+            return execution.execute(request, body);
+        });
+        RestTemplateXhrTransport transport = new RestTemplateXhrTransport(restTemplate);
+        transport.setXhrStreamingDisabled(true);
+        WebSocketStompClient stompClient = new WebSocketStompClient(new SockJsClient(List.of(transport)));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        List<StompSession> sessions = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            StompSession session = stompClient.connectAsync("http://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {
+            }).get(10, TimeUnit.SECONDS);
+            session.subscribe("/topic/room." + room.getRoomId(), new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return GameUpdateMessage.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    recordDelivery();
+                }
+            });
+            sessions.add(session);
+        }
+        Thread.sleep(1000);
+
+        long setupRequests = requests.sum();
+        runUpdates(room);
+        Thread.sleep(1000);
+
+        sessions.forEach(StompSession::disconnect);
+        report("SockJS xhr polling", requests.sum() - setupRequests);
+    }
+
+    private void runEtagClients(String scenario, boolean longPoll) throws Exception {
+        GameRoom room = gameService.createRoom("host");
+        String url = "http://localhost:" + port + "/api/rooms/" + room.getRoomId() + (longPoll ? "?waitMs=10000" : "");
+        HttpClient httpClient = HttpClient.newHttpClient();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.submit(() -> {
+                String etag = null;
+                while (!Thread.currentThread().isInterrupted()) {
+                    HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url));
+                    if (etag != null) {
+                        request.header("If-None-Match", etag);
+                    }
+                    HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                    requests.increment();
+                    bytes.add(response.body().length);
+
+                    if (response.statusCode() == 304) {
+                        notModified.increment();
+                    } else {
+                        if (etag != null) {
+                            recordDelivery();
+                        }
+                        etag = response.headers().firstValue("ETag").orElse(null);
+                    }
+                    if (!longPoll) {
+                        Thread.sleep(SHORT_POLL_INTERVAL_MS);
+                    }
+                }
+                return null;
+            });
+        }
+        Thread.sleep(1000);
+
+        long setupRequests = requests.sum();
+        runUpdates(room);
+        Thread.sleep(1000);
+
+        clients.shutdownNow();
+        clients.awaitTermination(15, TimeUnit.SECONDS);
+        report(scenario, requests.sum() - setupRequests);
+    }
+
+    private void runUpdates(GameRoom room) throws GameException, InterruptedException {
+        for (int i = 0; i < UPDATES; i++) {
+            Thread.sleep(UPDATE_INTERVAL_MS);
+            GameRoom updated = gameService.joinRoom(room.getRoomId(), "player-" + i);
+
+            GameUpdateMessage update = new GameUpdateMessage();
+            update.setType("PLAYER_JOINED");
+            update.setGameRoom(updated);
+            update.setMessage("player-" + i + " joined the game");
+
+            lastUpdateNanos.set(System.nanoTime());
+            roomBroadcaster.broadcast(room.getRoomId(), update);
+        }
+    }
+
+    private void recordDelivery() {
+        long updatedAt = lastUpdateNanos.get();
+        if (updatedAt > 0) {
+            deliveries.increment();
+            totalLatencyMicros.add((System.nanoTime() - updatedAt) / 1000);
+        }
+    }
+
+    private void report(String scenario, long requestsDuringUpdates) {
+        long delivered = deliveries.sum();
+        System.out.printf("%-20s clients=%d updates=%d requests=%d (%.2f per client per update) 304s=%d bytes=%d"
+                + " deliveries=%d avg latency=%.1f ms%n",
+                scenario, CLIENTS, UPDATES, requestsDuringUpdates,
+                requestsDuringUpdates / (double) (CLIENTS * UPDATES), notModified.sum(), bytes.sum(),
+                delivered, delivered > 0 ? totalLatencyMicros.sum() / 1000.0 / delivered : 0);
+        assertTrue(delivered > 0, "No client saw any update");
+    }
+}
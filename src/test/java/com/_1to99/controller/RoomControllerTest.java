@@ -0,0 +1,67 @@
+package com._1to99.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com._1to99.model.GameRoom;
+import com._1to99.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RoomControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GameService gameService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void largeSnapshotsAreGzippedAndRevalidated() throws Exception {
+        GameRoom room = gameService.createRoom("host");
+        // Enough players to push the snapshot over the compression threshold
+        for (int i = 0; i < 20; i++) {
+            gameService.joinRoom(room.getRoomId(), "player-" + i);
+        }
+        URI uri = URI.create("http://localhost:" + port + "/api/rooms/" + room.getRoomId());
+
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri)
+                .header("Accept-Encoding", "gzip").build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+        assertTrue(etag.startsWith("W/"), etag);
+
+        HttpResponse<byte[]> revalidated = httpClient.send(HttpRequest.newBuilder(uri)
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(304, revalidated.statusCode());
+    }
+
+    @Test
+    void etagDescribesTheVersionInTheBody() throws Exception {
+        GameRoom room = gameService.createRoom("host");
+        URI uri = URI.create("http://localhost:" + port + "/api/rooms/" + room.getRoomId());
+
+        for (int i = 0; i < 5; i++) {
+            gameService.joinRoom(room.getRoomId(), "player-" + i);
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            long version = new ObjectMapper().readTree(response.body()).get("version").asLong();
+            assertEquals("W/\"" + version + "\"", response.headers().firstValue("ETag").orElseThrow());
+        }
+    }
+}
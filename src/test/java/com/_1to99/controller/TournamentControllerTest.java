@@ -0,0 +1,41 @@
+package com._1to99.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "game.tournaments.organizer-token=organizer-secret")
+class TournamentControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void tournamentsNeedTheOrganizerToken() throws Exception {
+        String body = "{\"rooms\":[{\"hostName\":\"host\",\"playerNames\":[\"player\"]}]}";
+
+        assertEquals(403, create(body, null).statusCode());
+        assertEquals(403, create(body, "guess").statusCode());
+        assertEquals(200, create(body, "organizer-secret").statusCode());
+    }
+
+    private HttpResponse<String> create(String body, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tournaments"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("X-Organizer-Token", token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,192 @@
+package com._1to99.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com._1to99.dto.GameUpdateMessage;
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameState;
+import com._1to99.model.GameTurn;
+import com._1to99.model.Player;
+
+class RoomBroadcasterTest {
+
+    // Long enough that held updates only go out when a test calls flushAll
+    private static final long WINDOW_MS = 60_000;
+
+    private final Map<String, List<GameUpdateMessage>> sent = new ConcurrentHashMap<>();
+    private RoomBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.stop();
+        }
+    }
+
+    @Test
+    void collapseMergesOnlyConsecutiveMembershipChanges() {
+        List<GameUpdateMessage> collapsed = RoomBroadcaster.collapse(List.of(
+                update("PLAYER_JOINED", "a joined"),
+                update("PLAYER_JOINED", "b joined"),
+                update("PLAYER_QUIT", "a quit"),
+                update("GAME_STARTED", "started"),
+                update("PLAYER_REMOVED", "b removed")));
+
+        assertEquals(List.of("PLAYER_QUIT", "GAME_STARTED", "PLAYER_REMOVED"), types(collapsed));
+        assertEquals("a joined; b joined; a quit", collapsed.get(0).getMessage());
+        assertEquals("b removed", collapsed.get(2).getMessage());
+    }
+
+    @Test
+    void collapseKeepsTheLatestSnapshot() {
+        GameUpdateMessage first = update("PLAYER_JOINED", "a joined");
+        GameUpdateMessage second = update("PLAYER_JOINED", "b joined");
+        second.setGameRoom(new GameRoom());
+
+        assertSame(second.getGameRoom(), RoomBroadcaster.collapse(List.of(first, second)).get(0).getGameRoom());
+    }
+
+    @Test
+    void updatesForARoomStayInOrderAcrossFlushes() throws Exception {
+        broadcaster = broadcaster(WINDOW_MS, RoomBroadcaster.BatchMode.COLLAPSE);
+        for (int i = 0; i < 30; i++) {
+            broadcaster.broadcast("1000", update("GUESS_MADE", "guess " + i));
+            broadcaster.broadcast("2000", update("GUESS_MADE", "other " + i));
+            if (i % 10 == 9) {
+                broadcaster.flushAll();
+            }
+        }
+
+        for (String roomId : List.of("1000", "2000")) {
+            List<GameUpdateMessage> room = sent.get("/topic/room." + roomId);
+            assertEquals(30, room.size());
+            String prefix = roomId.equals("1000") ? "guess " : "other ";
+            for (int i = 0; i < 30; i++) {
+                assertEquals(prefix + i, room.get(i).getMessage());
+            }
+        }
+    }
+
+    @Test
+    void heldUpdatesKeepTheRoomAsItWasWhenBroadcast() throws Exception {
+        broadcaster = broadcaster(WINDOW_MS, RoomBroadcaster.BatchMode.COLLAPSE);
+        GameRoom room = room();
+
+        GameUpdateMessage guess = update("GUESS_MADE", "guessed 40");
+        guess.setGameRoom(room);
+        broadcaster.broadcast(room.getRoomId(), guess);
+
+        // The room moves on while the update is held
+        room.setMinRange(60);
+        room.getGameHistory().add(new GameTurn("p2", "bob", 59, "Range: 60-99", 2));
+        broadcaster.flushAll();
+
+        GameRoom sentRoom = sent.get("/topic/room.1000").get(0).getGameRoom();
+        assertEquals(41, sentRoom.getMinRange());
+        assertEquals(1, sentRoom.getGameHistory().size());
+    }
+
+    @Test
+    void concurrentBroadcastsAreQueuedInVersionOrder() throws Exception {
+        broadcaster = broadcaster(WINDOW_MS, RoomBroadcaster.BatchMode.COLLAPSE);
+        GameRoom room = room();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 500; i++) {
+                    synchronized (room) {
+                        room.setVersion(room.getVersion() + 1);
+                    }
+                    GameUpdateMessage guess = update("GUESS_MADE", "guessed");
+                    guess.setGameRoom(room);
+                    broadcaster.broadcast(room.getRoomId(), guess);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        broadcaster.flushAll();
+
+        List<GameUpdateMessage> frames = sent.get("/topic/room.1000");
+        assertEquals(2000, frames.size());
+        for (int i = 1; i < frames.size(); i++) {
+            assertTrue(frames.get(i).getGameRoom().getVersion() >= frames.get(i - 1).getGameRoom().getVersion());
+        }
+    }
+
+    @Test
+    void batchFramesCarryOnlyTheFinalSnapshot() throws Exception {
+        broadcaster = broadcaster(WINDOW_MS, RoomBroadcaster.BatchMode.BATCH);
+        GameRoom room = room();
+        for (int i = 0; i < 3; i++) {
+            GameUpdateMessage guess = update("GUESS_MADE", "guess " + i);
+            guess.setGameRoom(room);
+            broadcaster.broadcast(room.getRoomId(), guess);
+        }
+        broadcaster.flushAll();
+
+        List<GameUpdateMessage> frames = sent.get("/topic/room.1000");
+        assertEquals(1, frames.size());
+        GameUpdateMessage batch = frames.get(0);
+        assertEquals("BATCH", batch.getType());
+        assertNotNull(batch.getGameRoom());
+        assertEquals(3, batch.getUpdates().size());
+        batch.getUpdates().forEach(update -> assertNull(update.getGameRoom()));
+    }
+
+    private RoomBroadcaster broadcaster(long batchWindowMs, RoomBroadcaster.BatchMode mode) {
+        SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        doAnswer(invocation -> {
+            sent.computeIfAbsent(invocation.getArgument(0), destination -> new ArrayList<>())
+                    .add(invocation.getArgument(1));
+            return null;
+        }).when(template).convertAndSend(anyString(), any(Object.class));
+
+        RoomBroadcaster roomBroadcaster = new RoomBroadcaster();
+        ReflectionTestUtils.setField(roomBroadcaster, "messagingTemplate", template);
+        ReflectionTestUtils.setField(roomBroadcaster, "roomChangeNotifier", new RoomChangeNotifier());
+        ReflectionTestUtils.setField(roomBroadcaster, "batchWindowMs", batchWindowMs);
+        ReflectionTestUtils.setField(roomBroadcaster, "batchMode", mode);
+        roomBroadcaster.start();
+        return roomBroadcaster;
+    }
+
+    private static GameRoom room() {
+        List<Player> players = new ArrayList<>(List.of(new Player("p1", "alice", true), new Player("p2", "bob", false)));
+        List<GameTurn> history = new ArrayList<>(List.of(new GameTurn("p1", "alice", 40, "Range: 41-99", 1)));
+        return new GameRoom("1000", "p1", players, GameState.IN_PROGRESS, 70, 1, 41, 99, history, 1);
+    }
+
+    private static GameUpdateMessage update(String type, String message) {
+        GameUpdateMessage update = new GameUpdateMessage();
+        update.setType(type);
+        update.setMessage(message);
+        return update;
+    }
+
+    private static List<String> types(List<GameUpdateMessage> updates) {
+        return updates.stream().map(GameUpdateMessage::getType).toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com._1to99.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com._1to99.dto.RoomSeating;
+import com._1to99.exception.GameException;
+import com._1to99.model.GameRoom;
+import com._1to99.model.Player;
+import com._1to99.service.GameService;
+
+/**
+ * Times provisioning of tournament-sized batches of rooms against the service bean as configured
+ * in application.properties, so the request cap in effect is the shipped one.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=BulkProvisioningBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class BulkProvisioningBenchmark {
+
+    private static final int ROOMS = 1000;
+    private static final int SEATS_PER_ROOM = 6;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private GameService gameService;
+
+    @Test
+    void provisionThousandRooms() throws GameException {
+        List<RoomSeating> seatings = new ArrayList<>(ROOMS);
+        for (int i = 0; i < ROOMS; i++) {
+            RoomSeating seating = new RoomSeating();
+            seating.setHostName("host-" + i);
+            List<String> playerNames = new ArrayList<>();
+            for (int p = 1; p < SEATS_PER_ROOM; p++) {
+                playerNames.add("player-" + i + "-" + p);
+            }
+            seating.setPlayerNames(playerNames);
+            seatings.add(seating);
+        }
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<GameRoom> rooms = gameService.createRooms(seatings);
+            long elapsedMicros = (System.nanoTime() - start) / 1000;
+
+            assertEquals(ROOMS, rooms.stream().map(GameRoom::getRoomId).distinct().count());
+            System.out.printf("round %2d: %d rooms x %d seats in %,d us%n", round, ROOMS, SEATS_PER_ROOM, elapsedMicros);
+
+            // Empty rooms are deleted, which frees the IDs for the next round
+            for (GameRoom room : rooms) {
+                for (Player player : new ArrayList<>(room.getPlayers())) {
+                    gameService.playerQuitGame(room.getRoomId(), player.getName());
+                }
+            }
+        }
+    }
+}
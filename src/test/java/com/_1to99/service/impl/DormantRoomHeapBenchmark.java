@@ -0,0 +1,98 @@
+package com._1to99.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com._1to99.exception.GameException;
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameState;
+import com._1to99.model.Player;
+
+/**
+ * Heap-vs-room-count benchmark for the dormant room tier.
+ * Fills the service with finished rooms and reports the live heap and the full GC time
+ * with all rooms on the heap and after they have been moved to the dormant tier.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=DormantRoomHeapBenchmark
+ */
+@Tag("benchmark")
+class DormantRoomHeapBenchmark {
+
+    private static final int[] ROOM_COUNTS = { 500, 1000, 2000, 4000, 8000 };
+    private static final int PLAYERS_PER_ROOM = 6;
+
+    @Test
+    void heapVersusRoomCount() throws GameException {
+        System.out.printf("%8s | %14s %12s | %14s %12s %14s%n",
+                "rooms", "on-heap MB", "full GC ms", "dormant MB", "full GC ms", "off-heap KB");
+
+        for (int roomCount : ROOM_COUNTS) {
+            GameServiceImpl service = new GameServiceImpl();
+            List<String> roomIds = fillWithFinishedRooms(service, roomCount);
+
+            long baselineHeap = usedHeapAfterGc();
+            long baselineGc = fullGcMillis();
+
+            int evicted = service.evictIdleRooms(0);
+            assertEquals(roomCount, evicted);
+
+            long dormantHeap = usedHeapAfterGc();
+            long dormantGc = fullGcMillis();
+
+            System.out.printf("%8d | %14.1f %12d | %14.1f %12d %14d%n",
+                    roomCount, baselineHeap / 1048576.0, baselineGc,
+                    dormantHeap / 1048576.0, dormantGc, service.dormantRoomBytes() / 1024);
+
+            // Rehydration must give back the same room
+            GameRoom rehydrated = service.getRoom(roomIds.get(0));
+            assertNotNull(rehydrated);
+            assertEquals(GameState.FINISHED, rehydrated.getState());
+            assertEquals(PLAYERS_PER_ROOM, rehydrated.getPlayers().size());
+        }
+    }
+
+    private static List<String> fillWithFinishedRooms(GameServiceImpl service, int roomCount) throws GameException {
+        List<String> roomIds = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            GameRoom room = service.createRoom("host-" + i);
+            for (int p = 1; p < PLAYERS_PER_ROOM; p++) {
+                service.joinRoom(room.getRoomId(), "player-" + i + "-" + p);
+            }
+            service.startGame(room.getRoomId(), room.getHostId());
+
+            // Walk the range upwards until someone hits the secret number
+            int guess = 1;
+            while (room.getState() == GameState.IN_PROGRESS) {
+                Player current = room.getPlayers().get(room.getCurrentPlayerIndex());
+                service.makeGuess(room.getRoomId(), current.getId(), guess++);
+            }
+            roomIds.add(room.getRoomId());
+        }
+        return roomIds;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long fullGcMillis() {
+        long before = totalGcMillis();
+        System.gc();
+        return totalGcMillis() - before;
+    }
+
+    private static long totalGcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
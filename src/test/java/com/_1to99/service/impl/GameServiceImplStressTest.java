@@ -0,0 +1,360 @@
+package com._1to99.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import com._1to99.exception.GameException;
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameState;
+import com._1to99.model.GameTurn;
+import com._1to99.model.Player;
+
+/**
+ * Hammers GameServiceImpl from many threads and checks the room invariants while it runs and afterwards.
+ * Each round uses its own seed for the operation mix and the random pauses between operations;
+ * rerun a failing round with -Dstress.seed=<seed>. Thread interleaving itself is up to the JVM,
+ * so a seed makes a failure likely to recur rather than guaranteed.
+ */
+class GameServiceImplStressTest {
+
+    private static final int ROUNDS = 5;
+    private static final int ROOMS = 6;
+    private static final int WORKERS = 8;
+    private static final int OPS_PER_WORKER = 3000;
+
+    @Test
+    void concurrentOperationsKeepInvariants() throws Exception {
+        String fixedSeed = System.getProperty("stress.seed");
+        long baseSeed = fixedSeed != null ? Long.parseLong(fixedSeed) : new Random().nextLong();
+
+        for (int round = 0; round < (fixedSeed != null ? 1 : ROUNDS); round++) {
+            long seed = baseSeed + round;
+            List<String> violations = runRound(seed);
+            assertTrue(violations.isEmpty(), "seed=" + seed + " (rerun with -Dstress.seed=" + seed + "): "
+                    + violations.subList(0, Math.min(10, violations.size())));
+        }
+    }
+
+    @Test
+    void removePlayerKeepsTurnWithCurrentPlayer() throws GameException {
+        GameServiceImpl service = new GameServiceImpl();
+        GameRoom room = service.createRoom("host");
+        for (int i = 0; i < 5; i++) {
+            service.joinRoom(room.getRoomId(), "player-" + i);
+        }
+        service.startGame(room.getRoomId(), room.getHostId());
+
+        // Undo the start shuffle: host first, then player-0..4, with the turn on player-2 (seat 3)
+        room.getPlayers().sort(Comparator.comparing((Player p) -> !p.isHost()).thenComparing(Player::getName));
+        room.setCurrentPlayerIndex(3);
+
+        // A seat before the turn leaves: the turn stays with player-2, now on seat 2
+        service.removePlayer(room.getRoomId(), room.getHostId(), "player-0");
+        assertEquals(2, room.getCurrentPlayerIndex());
+        assertEquals("player-2", room.getPlayers().get(room.getCurrentPlayerIndex()).getName());
+
+        // The current player leaves: whoever takes the seat has the turn
+        service.removePlayer(room.getRoomId(), room.getHostId(), "player-2");
+        assertEquals("player-3", room.getPlayers().get(room.getCurrentPlayerIndex()).getName());
+
+        // The current player in the last seat leaves: the turn wraps to seat 0
+        room.setCurrentPlayerIndex(room.getPlayers().size() - 1);
+        service.removePlayer(room.getRoomId(), room.getHostId(), "player-4");
+        assertEquals(0, room.getCurrentPlayerIndex());
+        assertEquals("host", room.getPlayers().get(0).getName());
+    }
+
+    @Test
+    void removePlayerUnderGuessContention() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            GameServiceImpl service = new GameServiceImpl();
+            GameRoom room = service.createRoom("host");
+            String roomId = room.getRoomId();
+            for (int i = 0; i < 8; i++) {
+                service.joinRoom(roomId, "player-" + i);
+            }
+            service.startGame(roomId, room.getHostId());
+
+            Queue<String> violations = new ConcurrentLinkedQueue<>();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(3);
+
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 8; i++) {
+                    try {
+                        service.removePlayer(roomId, room.getHostId(), "player-" + i);
+                    } catch (GameException expected) {
+                        // The player may already be gone
+                    } catch (RuntimeException e) {
+                        violations.add("removePlayer threw " + e);
+                    }
+                }
+                return null;
+            });
+            for (int t = 0; t < 2; t++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 50; i++) {
+                        guessAsCurrentPlayer(service, roomId, new Random(i), violations);
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+            GameRoom live = service.getRoom(roomId);
+            synchronized (live) {
+                checkRoom(service, live, violations);
+            }
+            assertTrue(violations.isEmpty(), "round " + round + ": " + violations);
+        }
+    }
+
+    private List<String> runRound(long seed) throws Exception {
+        GameServiceImpl service = new GameServiceImpl();
+        List<String> roomIds = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            GameRoom room = service.createRoom("host-" + i);
+            for (int p = 0; p < 3; p++) {
+                service.joinRoom(room.getRoomId(), "seed-" + i + "-" + p);
+            }
+            roomIds.add(room.getRoomId());
+        }
+
+        Queue<String> violations = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(WORKERS + 2);
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int w = 0; w < WORKERS; w++) {
+            Random random = new Random(seed * 31 + w);
+            int worker = w;
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int op = 0; op < OPS_PER_WORKER; op++) {
+                    randomPause(random);
+                    String roomId = roomIds.get(random.nextInt(roomIds.size()));
+                    try {
+                        randomOperation(service, roomIds, roomId, random, "w" + worker + "-" + op, violations);
+                    } catch (GameException expected) {
+                        // Rejected operations are part of the workload
+                    } catch (RuntimeException e) {
+                        violations.add("worker " + worker + " op " + op + " threw " + e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Checks every live room under its lock while the workers run
+        pool.submit(() -> {
+            start.await();
+            while (running.get()) {
+                for (String roomId : roomIds) {
+                    GameRoom room = service.getRoom(roomId);
+                    if (room != null) {
+                        synchronized (room) {
+                            if (service.getRoom(roomId) == room) {
+                                checkRoom(service, room, violations);
+                            }
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+
+        // Pushes idle rooms to the dormant tier and back as fast as possible
+        pool.submit(() -> {
+            start.await();
+            while (running.get()) {
+                service.evictIdleRooms(0);
+                Thread.yield();
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        // The checker and evictor stop once the workers are done
+        running.set(false);
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        checkQuiescent(service, roomIds, violations);
+        return new ArrayList<>(violations);
+    }
+
+    private void randomOperation(GameServiceImpl service, List<String> roomIds, String roomId, Random random,
+            String uniqueName, Queue<String> violations) throws GameException {
+        GameRoom room = service.getRoom(roomId);
+        if (room == null) {
+            // The room emptied out; replace it so the load keeps going
+            GameRoom created = service.createRoom("host-" + uniqueName);
+            int slot = roomIds.indexOf(roomId);
+            if (slot >= 0) {
+                roomIds.set(slot, created.getRoomId());
+            }
+            return;
+        }
+
+        List<Player> players;
+        String hostId;
+        GameState state;
+        synchronized (room) {
+            players = new ArrayList<>(room.getPlayers());
+            hostId = room.getHostId();
+            state = room.getState();
+        }
+        Player somePlayer = players.isEmpty() ? null : players.get(random.nextInt(players.size()));
+
+        switch (random.nextInt(7)) {
+            case 0, 1 -> service.joinRoom(roomId, uniqueName);
+            case 2 -> {
+                if (somePlayer != null) {
+                    service.playerQuitGame(roomId, somePlayer.getName());
+                }
+            }
+            case 3 -> {
+                if (somePlayer != null) {
+                    service.removePlayer(roomId, hostId, somePlayer.getName());
+                }
+            }
+            case 4 -> {
+                if (state != GameState.IN_PROGRESS) {
+                    service.startGame(roomId, hostId);
+                }
+            }
+            case 5 -> service.restartGame(roomId, hostId);
+            default -> guessAsCurrentPlayer(service, roomId, random, violations);
+        }
+    }
+
+    private void guessAsCurrentPlayer(GameServiceImpl service, String roomId, Random random, Queue<String> violations) {
+        GameRoom room = service.getRoom(roomId);
+        if (room == null) {
+            return;
+        }
+        String playerId;
+        int guess;
+        synchronized (room) {
+            if (room.getState() != GameState.IN_PROGRESS || room.getPlayers().isEmpty()) {
+                return;
+            }
+            int index = room.getCurrentPlayerIndex();
+            if (index < 0 || index >= room.getPlayers().size()) {
+                violations.add("room " + roomId + " currentPlayerIndex " + index + " out of bounds");
+                return;
+            }
+            playerId = room.getPlayers().get(index).getId();
+            int min = room.getMinRange();
+            int max = room.getMaxRange();
+            guess = max >= min ? min + random.nextInt(max - min + 1) : min;
+        }
+        try {
+            service.makeGuess(roomId, playerId, guess);
+        } catch (GameException expected) {
+            // Someone else moved first
+        } catch (RuntimeException e) {
+            violations.add("makeGuess threw " + e);
+        }
+    }
+
+    /**
+     * Invariants of one room; the caller holds the room lock.
+     */
+    private static void checkRoom(GameServiceImpl service, GameRoom room, Queue<String> violations) {
+        String roomId = room.getRoomId();
+        List<Player> players = room.getPlayers();
+
+        if (players.isEmpty()) {
+            violations.add("room " + roomId + " is live but empty");
+            return;
+        }
+
+        int index = room.getCurrentPlayerIndex();
+        if (index < 0 || index >= players.size()) {
+            violations.add("room " + roomId + " currentPlayerIndex " + index + " out of bounds for " + players.size());
+        }
+
+        long hosts = players.stream().filter(Player::isHost).count();
+        boolean hostIdMatches = players.stream().anyMatch(p -> p.isHost() && p.getId().equals(room.getHostId()));
+        if (hosts != 1 || !hostIdMatches) {
+            violations.add("room " + roomId + " has " + hosts + " hosts, hostId match " + hostIdMatches);
+        }
+
+        Map<String, String> mappings = service.playerRoomMappings();
+        for (Player player : players) {
+            if (!roomId.equals(mappings.get(player.getId()))) {
+                violations.add("player " + player.getName() + " in room " + roomId + " maps to " + mappings.get(player.getId()));
+            }
+        }
+
+        List<GameTurn> history = room.getGameHistory();
+        if (history != null) {
+            long losers = history.stream().filter(t -> t.getGuess() == room.getSecretNumber()).count();
+            long expected = room.getState() == GameState.FINISHED ? 1 : 0;
+            boolean lastIsLoser = history.isEmpty() || expected == 0
+                    || history.get(history.size() - 1).getGuess() == room.getSecretNumber();
+            if (room.getState() != GameState.WAITING_FOR_PLAYERS && (losers != expected || !lastIsLoser)) {
+                violations.add("room " + roomId + " in " + room.getState() + " has " + losers + " losing turns");
+            }
+        }
+    }
+
+    /**
+     * Cross-room checks once all threads have stopped.
+     */
+    private static void checkQuiescent(GameServiceImpl service, List<String> roomIds, Queue<String> violations) {
+        for (String roomId : roomIds) {
+            GameRoom room = service.getRoom(roomId);
+            if (room != null) {
+                checkRoom(service, room, violations);
+            }
+        }
+
+        for (Map.Entry<String, String> mapping : service.playerRoomMappings().entrySet()) {
+            GameRoom room = service.getRoom(mapping.getValue());
+            boolean member = room != null
+                    && room.getPlayers().stream().anyMatch(p -> p.getId().equals(mapping.getKey()));
+            if (!member) {
+                violations.add("player " + mapping.getKey() + " maps to room " + mapping.getValue() + " but is not in it");
+            }
+        }
+    }
+
+    private static void randomPause(Random random) {
+        switch (random.nextInt(8)) {
+            case 0 -> Thread.yield();
+            case 1 -> LockSupport.parkNanos(random.nextInt(20_000));
+            default -> {
+                // Run straight on
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com._1to99.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com._1to99.dto.RoomSeating;
+import com._1to99.exception.GameException;
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameTurn;
+import com._1to99.model.Player;
+
+class GameServiceImplTest {
+
+    @Test
+    void createRoomFailsOnceEveryRoomIdIsTaken() {
+        GameServiceImpl service = new GameServiceImpl();
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (int i = 0; i < 9000; i++) {
+                service.createRoom("host-" + i);
+            }
+            assertThrows(GameException.class, () -> service.createRoom("one too many"));
+        });
+    }
+
+    @Test
+    void bulkRequestsAreCapped() throws GameException {
+        GameServiceImpl service = new GameServiceImpl();
+        ReflectionTestUtils.setField(service, "maxRoomsPerRequest", 3);
+
+        List<RoomSeating> seatings = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            RoomSeating seating = new RoomSeating();
+            seating.setHostName("host-" + i);
+            seatings.add(seating);
+        }
+        assertThrows(GameException.class, () -> service.createRooms(seatings));
+        assertTrue(service.playerRoomMappings().isEmpty());
+
+        assertEquals(3, service.createRooms(seatings.subList(0, 3)).size());
+    }
+
+    @Test
+    void dormantRoomsComeBackWithEveryField() throws GameException {
+        GameServiceImpl service = new GameServiceImpl();
+        GameRoom room = service.createRoom("host");
+        service.joinRoom(room.getRoomId(), "alice");
+        service.joinRoom(room.getRoomId(), "bob");
+        service.startGame(room.getRoomId(), room.getHostId());
+        Player first = room.getPlayers().get(room.getCurrentPlayerIndex());
+        service.makeGuess(room.getRoomId(), first.getId(), room.getSecretNumber() == 50 ? 51 : 50);
+        // Hitting the secret number ends the game; rooms in progress are never evicted
+        Player second = room.getPlayers().get(room.getCurrentPlayerIndex());
+        service.makeGuess(room.getRoomId(), second.getId(), room.getSecretNumber());
+        room.getPlayers().get(0).setPostGameDecision("PLAY_AGAIN");
+        room.getPlayers().get(1).setPostGameDecision("QUIT");
+        GameRoom expected = room.snapshot();
+
+        assertEquals(1, service.evictIdleRooms(0));
+        GameRoom restored = service.getRoom(room.getRoomId());
+        assertNotSame(room, restored);
+
+        assertEquals(expected.getRoomId(), restored.getRoomId());
+        assertEquals(expected.getHostId(), restored.getHostId());
+        assertEquals(expected.getState(), restored.getState());
+        assertEquals(expected.getSecretNumber(), restored.getSecretNumber());
+        assertEquals(expected.getCurrentPlayerIndex(), restored.getCurrentPlayerIndex());
+        assertEquals(expected.getMinRange(), restored.getMinRange());
+        assertEquals(expected.getMaxRange(), restored.getMaxRange());
+        assertEquals(expected.getVersion(), restored.getVersion());
+
+        assertEquals(3, restored.getPlayers().size());
+        for (int i = 0; i < 3; i++) {
+            Player want = expected.getPlayers().get(i);
+            Player got = restored.getPlayers().get(i);
+            assertEquals(want.getId(), got.getId());
+            assertEquals(want.getName(), got.getName());
+            assertEquals(want.isHost(), got.isHost());
+            assertEquals(want.getPostGameDecision(), got.getPostGameDecision());
+        }
+
+        assertEquals(2, restored.getGameHistory().size());
+        for (int i = 0; i < 2; i++) {
+            GameTurn want = expected.getGameHistory().get(i);
+            GameTurn got = restored.getGameHistory().get(i);
+            assertEquals(want.getPlayerId(), got.getPlayerId());
+            assertEquals(want.getPlayerName(), got.getPlayerName());
+            assertEquals(want.getGuess(), got.getGuess());
+            assertEquals(want.getResult(), got.getResult());
+            assertEquals(want.getTimestamp(), got.getTimestamp());
+        }
+    }
+
+    @Test
+    void expiredDormantRoomsAreDeleted() throws GameException {
+        GameServiceImpl service = new GameServiceImpl();
+        GameRoom room = service.createRoom("host");
+        service.joinRoom(room.getRoomId(), "player");
+
+        assertEquals(1, service.evictIdleRooms(0));
+        assertEquals(0, service.purgeExpiredRooms(60_000));
+        assertEquals(1, service.purgeExpiredRooms(0));
+
+        assertNull(service.getRoom(room.getRoomId()));
+        assertFalse(service.playerRoomMappings().containsValue(room.getRoomId()));
+        assertEquals(0, service.dormantRoomBytes());
+    }
+
+    @Test
+    void roomThatCannotBeEncodedDoesNotStopTheSweep() throws GameException {
+        GameServiceImpl service = new GameServiceImpl();
+        // Over the 64 KB limit of the dormant codec's strings
+        GameRoom oversized = service.createRoom("x".repeat(70_000));
+        GameRoom regular = service.createRoom("host");
+
+        assertEquals(1, service.evictIdleRooms(0));
+        assertEquals(oversized, service.getRoom(oversized.getRoomId()));
+        assertNotNull(service.getRoom(regular.getRoomId()));
+    }
+
+    @Test
+    void rehydratedRoomsAreNotDeleted() throws GameException {
+        GameServiceImpl service = new GameServiceImpl();
+        GameRoom room = service.createRoom("host");
+
+        service.evictIdleRooms(0);
+        assertNotNull(service.getRoom(room.getRoomId()));
+        assertEquals(0, service.purgeExpiredRooms(0));
+        assertNotNull(service.getRoom(room.getRoomId()));
+    }
+}
@@ -0,0 +1,162 @@
+package com._1to99.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com._1to99.dto.BulkCreateRoomsMessage;
+import com._1to99.dto.BulkCreateRoomsResponse;
+import com._1to99.dto.RoomSeating;
+import com._1to99.dto.SeatClaim;
+import com._1to99.exception.GameException;
+import com._1to99.messaging.RoomBroadcaster;
+import com._1to99.model.GameRoom;
+import com._1to99.model.GameState;
+import com._1to99.model.GameTurn;
+import com._1to99.model.Tournament;
+import com._1to99.service.RoomRemovedEvent;
+
+class TournamentServiceImplTest {
+
+    private final GameServiceImpl gameService = new GameServiceImpl();
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final TournamentServiceImpl tournamentService = new TournamentServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tournamentService, "gameService", gameService);
+        ReflectionTestUtils.setField(tournamentService, "roomBroadcaster", mock(RoomBroadcaster.class));
+        ReflectionTestUtils.setField(tournamentService, "messagingTemplate", messagingTemplate);
+        ReflectionTestUtils.setField(tournamentService, "defaultStaggerMs", 200L);
+        ReflectionTestUtils.setField(tournamentService, "retentionMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tournamentService.stop();
+    }
+
+    @Test
+    void negativeStaggerIsRejected() {
+        BulkCreateRoomsMessage message = message(2);
+        message.setAutoStart(true);
+        message.setStaggerMs(-1L);
+        assertThrows(GameException.class, () -> tournamentService.createTournament(message));
+    }
+
+    @Test
+    void abandonedRoomsCompleteTheTournament() throws GameException {
+        BulkCreateRoomsResponse response = tournamentService.createTournament(message(2));
+        String tournamentId = response.getTournamentId();
+        GameRoom finished = response.getRooms().get(0);
+        GameRoom abandoned = response.getRooms().get(1);
+
+        GameTurn losingTurn = new GameTurn();
+        losingTurn.setPlayerName("host-0");
+        tournamentService.roomFinished(finished, losingTurn);
+        assertFalse(tournamentService.getTournament(tournamentId).isComplete());
+
+        // The only player leaves, which deletes the room
+        gameService.playerQuitGame(abandoned.getRoomId(), "host-1");
+        tournamentService.roomRemoved(new RoomRemovedEvent(abandoned.getRoomId()));
+
+        Tournament tournament = tournamentService.getTournament(tournamentId);
+        assertTrue(tournament.isComplete());
+        assertEquals(1, tournament.getAbandonedRoomIds().size());
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/tournament." + tournamentId), any(Object.class));
+
+        // The room IDs are released, so later games in them no longer count
+        tournamentService.roomFinished(finished, losingTurn);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/tournament." + tournamentId), any(Object.class));
+    }
+
+    @Test
+    void claimTokensWorkOnceAndOnlyForTheirRoom() throws GameException {
+        BulkCreateRoomsResponse response = tournamentService.createTournament(message(2));
+        SeatClaim first = response.getSeats().get(0);
+        SeatClaim second = response.getSeats().get(1);
+        GameRoom firstRoom = response.getRooms().get(0);
+
+        // Player IDs are public in room snapshots, so they are not accepted in place of a token
+        assertThrows(GameException.class,
+                () -> tournamentService.claimSeat(first.getRoomId(), firstRoom.getPlayers().get(0).getId()));
+        assertThrows(GameException.class, () -> tournamentService.claimSeat(first.getRoomId(), second.getClaimToken()));
+
+        assertEquals(firstRoom.getHostId(), tournamentService.claimSeat(first.getRoomId(), first.getClaimToken()));
+        assertThrows(GameException.class, () -> tournamentService.claimSeat(first.getRoomId(), first.getClaimToken()));
+    }
+
+    @Test
+    void claimTokensDieWithTheirRoom() throws GameException {
+        SeatClaim seat = tournamentService.createTournament(message(1)).getSeats().get(0);
+
+        gameService.playerQuitGame(seat.getRoomId(), "host-0");
+        tournamentService.roomRemoved(new RoomRemovedEvent(seat.getRoomId()));
+
+        // Even if the ID is reused by an unrelated room, the old token does not seat anyone in it
+        assertThrows(GameException.class, () -> tournamentService.claimSeat(seat.getRoomId(), seat.getClaimToken()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void scheduledStartsSkipRoomsThatWereStartedOrReplaced() throws Exception {
+        BulkCreateRoomsMessage message = message(2);
+        message.setAutoStart(true);
+        message.setStaggerMs(0L);
+        BulkCreateRoomsResponse response = tournamentService.createTournament(message);
+        GameRoom started = response.getRooms().get(0);
+        String replacedId = response.getRooms().get(1).getRoomId();
+
+        // The host starts early and makes a guess, which the scheduled start must not wipe
+        gameService.startGame(started.getRoomId(), started.getHostId());
+        int guess = started.getSecretNumber() == 50 ? 51 : 50;
+        gameService.makeGuess(started.getRoomId(), started.getHostId(), guess);
+
+        // The other room is deleted and its ID handed to an unrelated room
+        gameService.playerQuitGame(replacedId, "host-1");
+        tournamentService.roomRemoved(new RoomRemovedEvent(replacedId));
+        GameRoom stranger = gameService.createRoom("stranger");
+        Map<String, GameRoom> gameRooms = (Map<String, GameRoom>) ReflectionTestUtils.getField(gameService, "gameRooms");
+        gameRooms.remove(stranger.getRoomId());
+        stranger.setRoomId(replacedId);
+        gameRooms.put(replacedId, stranger);
+
+        // The scheduler is single threaded, so this runs after both scheduled starts
+        ScheduledExecutorService scheduler =
+                (ScheduledExecutorService) ReflectionTestUtils.getField(tournamentService, "scheduler");
+        scheduler.schedule(() -> { }, 5100, TimeUnit.MILLISECONDS).get();
+
+        assertEquals(1, started.getGameHistory().size());
+        assertEquals(GameState.WAITING_FOR_PLAYERS, stranger.getState());
+    }
+
+    private BulkCreateRoomsMessage message(int rooms) {
+        List<RoomSeating> seatings = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            RoomSeating seating = new RoomSeating();
+            seating.setHostName("host-" + i);
+            seatings.add(seating);
+        }
+        BulkCreateRoomsMessage message = new BulkCreateRoomsMessage();
+        message.setRooms(seatings);
+        return message;
+    }
+}
@@ -0,0 +1,52 @@
+package com._1to99.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.IdTimestampMessageHeaderInitializer;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class InboundTracingInterceptorTest {
+
+    @Test
+    void tracesMessagesWithoutAnIdHeader() {
+        Tracer tracer = new Tracer();
+        ReflectionTestUtils.setField(tracer, "enabled", true);
+        ReflectionTestUtils.setField(tracer, "sampleRate", 1.0);
+        ReflectionTestUtils.setField(tracer, "maxTraces", 10);
+        ReflectionTestUtils.setField(tracer, "windowSize", 10);
+        tracer.init();
+
+        // Inbound WebSocket messages are built with ID generation disabled
+        IdTimestampMessageHeaderInitializer headerInitializer = new IdTimestampMessageHeaderInitializer();
+        headerInitializer.setDisableIdGeneration();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerInitializer.initHeaders(accessor);
+        accessor.setDestination("/app/makeGuess");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        assertNull(message.getHeaders().getId());
+
+        InboundTracingInterceptor interceptor = new InboundTracingInterceptor(tracer);
+        MessageChannel channel = mock(MessageChannel.class);
+        SimpAnnotationMethodMessageHandler handler = mock(SimpAnnotationMethodMessageHandler.class);
+
+        Message<?> sent = interceptor.preSend(message, channel);
+        interceptor.afterSendCompletion(sent, channel, true, null);
+        interceptor.beforeHandle(sent, channel, handler);
+        interceptor.afterMessageHandled(sent, channel, handler, null);
+
+        List<Trace> traces = tracer.getSlowestTraces();
+        assertEquals(1, traces.size());
+        assertEquals("/app/makeGuess", traces.get(0).getDestination());
+    }
+}
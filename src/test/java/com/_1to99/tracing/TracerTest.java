@@ -0,0 +1,38 @@
+package com._1to99.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TracerTest {
+
+    @Test
+    void slowTracesAgeOutOfTheWindow() {
+        Tracer tracer = new Tracer();
+        ReflectionTestUtils.setField(tracer, "enabled", true);
+        ReflectionTestUtils.setField(tracer, "maxTraces", 2);
+        ReflectionTestUtils.setField(tracer, "windowSize", 5);
+        tracer.init();
+
+        // One very slow trace, e.g. during startup
+        trace(tracer, "/app/slow", 1_000_000);
+        assertEquals("/app/slow", tracer.getSlowestTraces().get(0).getDestination());
+
+        // Five newer traces push it out of the window
+        for (int i = 0; i < 5; i++) {
+            trace(tracer, "/app/recent-" + i, 1000 * (i + 1));
+        }
+        List<Trace> slowest = tracer.getSlowestTraces();
+        assertEquals(2, slowest.size());
+        assertEquals("/app/recent-4", slowest.get(0).getDestination());
+        assertEquals("/app/recent-3", slowest.get(1).getDestination());
+    }
+
+    private void trace(Tracer tracer, String destination, long durationMicros) {
+        tracer.begin(destination, System.nanoTime() - durationMicros * 1000);
+        tracer.end();
+    }
+}
@@ -3,7 +3,9 @@ package com._to99;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import com._1to99.Application;
+
+@SpringBootTest(classes = Application.class)
 class ApplicationTests {
 
 	@Test